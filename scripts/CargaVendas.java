@@ -0,0 +1,151 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de carga para comparar os modos de execução da API.
+ *
+ * <pre>
+ * java scripts/CargaVendas.java [url] [usuarios] [segundos] [vendedores]
+ * java scripts/CargaVendas.java http://localhost:8080 200 60 20
+ * </pre>
+ *
+ * Cada usuário simula um PDV: cria uma venda, lista uma página de vendas e consulta a estatística
+ * de um vendedor, sem pausa entre as requisições.
+ */
+public class CargaVendas {
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080";
+        int usuarios = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int segundos = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        int quantidadeVendedores = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+
+        List<Long> vendedores = criarVendedores(client, url, quantidadeVendedores);
+
+        AtomicLong erros = new AtomicLong();
+        List<long[]> latencias = new ArrayList<>();
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+
+        ExecutorService executor = Executors.newFixedThreadPool(usuarios);
+        for (int i = 0; i < usuarios; i++) {
+            long[] amostras = new long[1 << 14];
+            synchronized (latencias) {
+                latencias.add(amostras);
+            }
+            executor.submit(() -> simularUsuario(client, url, vendedores, fim, amostras, erros));
+        }
+        executor.shutdown();
+        executor.awaitTermination(segundos + 60L, TimeUnit.SECONDS);
+
+        imprimirResultado(latencias, erros.get(), segundos, usuarios);
+        System.exit(0);
+    }
+
+    private static List<Long> criarVendedores(HttpClient client, String url, int quantidade) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        long sufixo = System.currentTimeMillis();
+        for (int i = 0; i < quantidade; i++) {
+            String nome = "Carga" + letras(sufixo) + letras(i);
+            HttpResponse<String> resposta = client.send(post(url + "/vendedores", "{\"nome\":\"" + nome + "\"}"),
+                    HttpResponse.BodyHandlers.ofString());
+            if (resposta.statusCode() != 201) {
+                throw new IllegalStateException("Falha ao criar vendedor: " + resposta.body());
+            }
+            String corpo = resposta.body();
+            int inicio = corpo.indexOf("\"id\":") + 5;
+            ids.add(Long.parseLong(corpo.substring(inicio, corpo.indexOf(',', inicio)).trim()));
+        }
+        return ids;
+    }
+
+    private static String letras(long valor) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + valor % 26));
+            valor /= 26;
+        } while (valor > 0);
+        return sb.toString();
+    }
+
+    private static void simularUsuario(HttpClient client, String url, List<Long> vendedores, long fim,
+                                       long[] amostras, AtomicLong erros) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate hoje = LocalDate.now();
+        int n = 0;
+        while (System.nanoTime() < fim) {
+            Long idVendedor = vendedores.get(random.nextInt(vendedores.size()));
+            LocalDate data = hoje.minusDays(random.nextInt(30));
+            HttpRequest requisicao = switch (n % 3) {
+                case 0 -> post(url + "/vendas", "{\"dataVenda\":\"" + FORMATO_DATA.format(data)
+                        + "\",\"valor\":" + (1 + random.nextInt(1000)) + ",\"idVendedor\":" + idVendedor + "}");
+                case 1 -> get(url + "/vendas?limit=50");
+                default -> get(url + "/vendas/" + idVendedor + "/estatistica?dataInicio="
+                        + FORMATO_DATA.format(hoje.minusDays(29)) + "&dataFim=" + FORMATO_DATA.format(hoje));
+            };
+            long inicio = System.nanoTime();
+            try {
+                HttpResponse<Void> resposta = client.send(requisicao, HttpResponse.BodyHandlers.discarding());
+                if (resposta.statusCode() >= 400) {
+                    erros.incrementAndGet();
+                }
+            } catch (Exception e) {
+                erros.incrementAndGet();
+            }
+            if (n < amostras.length) {
+                amostras[n] = System.nanoTime() - inicio;
+            }
+            n++;
+        }
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static void imprimirResultado(List<long[]> latencias, long erros, int segundos, int usuarios) {
+        long[] todas = latencias.stream()
+                .flatMapToLong(amostras -> Arrays.stream(amostras).filter(valor -> valor > 0))
+                .sorted()
+                .toArray();
+        if (todas.length == 0) {
+            System.out.println("Nenhuma requisição concluída.");
+            return;
+        }
+        System.out.printf("usuarios=%d requisicoes=%d erros=%d vazao=%.1f req/s%n",
+                usuarios, todas.length, erros, todas.length / (double) segundos);
+        System.out.printf("latencia ms: p50=%.1f p95=%.1f p99=%.1f max=%.1f%n",
+                percentil(todas, 0.50), percentil(todas, 0.95), percentil(todas, 0.99), todas[todas.length - 1] / 1e6);
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        return ordenadas[(int) Math.min(ordenadas.length - 1, Math.ceil(p * ordenadas.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,61 @@
+package com.joaoMendes.vendas_api.benchmark;
+
+import com.joaoMendes.vendas_api.domain.entities.Venda;
+import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class DadosBenchmark {
+
+    static final int QUANTIDADE_VENDEDORES = 100;
+    static final LocalDate DATA_FIM = LocalDate.of(2024, 12, 31);
+    static final LocalDate DATA_INICIO = DATA_FIM.minusDays(364);
+
+    private static final String[] NOMES = {
+            "João da Silva", "Maria-Clara", "José  Pereira 2º", "Ana_Lúcia", "Ñandú O'Connor", "Bjørn Ødegård"
+    };
+
+    private static final String[] NOMES_UNICODE = {
+            "JoãoSilva", "mariaclara", "ΟΔΥΣΣΕΥΣ", "İstanbul Ltda.", "Дмитрий Иванов", "李小龙", "محمد علي",
+            "Nguyễn Văn An", "Zoë 😀 Straße", "\uD835\uDC00\uD835\uDC01 Bold", "Ana\u0301lia", "São-Paulo_01"
+    };
+
+    private DadosBenchmark() {
+    }
+
+    static List<Vendedor> vendedores() {
+        List<Vendedor> vendedores = new ArrayList<>(QUANTIDADE_VENDEDORES);
+        for (long id = 1; id <= QUANTIDADE_VENDEDORES; id++) {
+            vendedores.add(new Vendedor(id, NOMES[(int) (id % NOMES.length)] + id));
+        }
+        return vendedores;
+    }
+
+    static List<Venda> vendas(int quantidade) {
+        Random random = new Random(42);
+        List<Vendedor> vendedores = vendedores();
+        List<Venda> vendas = new ArrayList<>(quantidade);
+        for (long id = 1; id <= quantidade; id++) {
+            vendas.add(new Venda(
+                    id,
+                    DATA_INICIO.plusDays(random.nextInt(365)),
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 2),
+                    vendedores.get(random.nextInt(vendedores.size()))
+            ));
+        }
+        return vendas;
+    }
+
+    static List<String> nomes(int quantidade) {
+        Random random = new Random(42);
+        List<String> nomes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            nomes.add(NOMES_UNICODE[random.nextInt(NOMES_UNICODE.length)]);
+        }
+        return nomes;
+    }
+}
@@ -0,0 +1,68 @@
+package com.joaoMendes.vendas_api.benchmark;
+
+import com.joaoMendes.vendas_api.utils.StringUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StringUtilsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int tamanho;
+
+    private List<String> nomes;
+
+    private static String cleanPorRegex(String s) {
+        return s.replaceAll("[^\\p{L}]", "");
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        nomes = DadosBenchmark.nomes(tamanho);
+
+        for (String nome : nomes) {
+            String esperado = cleanPorRegex(nome);
+            if (!esperado.equals(StringUtils.cleanStringForSave(nome))
+                    || !esperado.trim().toLowerCase(Locale.ROOT).equals(StringUtils.cleanAndNormalize(nome))) {
+                throw new IllegalStateException("Resultado diferente da regex para: " + nome);
+            }
+        }
+    }
+
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        for (String nome : nomes) {
+            blackhole.consume(cleanPorRegex(nome));
+        }
+    }
+
+    @Benchmark
+    public void cleanStringForSave(Blackhole blackhole) {
+        for (String nome : nomes) {
+            blackhole.consume(StringUtils.cleanStringForSave(nome));
+        }
+    }
+
+    @Benchmark
+    public void regexENormalize(Blackhole blackhole) {
+        for (String nome : nomes) {
+            blackhole.consume(cleanPorRegex(nome).trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    @Benchmark
+    public void cleanAndNormalize(Blackhole blackhole) {
+        for (String nome : nomes) {
+            blackhole.consume(StringUtils.cleanAndNormalize(nome));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.joaoMendes.vendas_api.benchmark;
+
+import com.joaoMendes.vendas_api.domain.entities.Venda;
+import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import com.joaoMendes.vendas_api.mapper.VendaMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class VendaMapperBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int tamanho;
+
+    private final VendaMapper mapper = new VendaMapper();
+    private List<Venda> vendas;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        vendas = DadosBenchmark.vendas(tamanho);
+    }
+
+    @Benchmark
+    public List<VendaResponse> toResponseList() {
+        return mapper.toResponseList(vendas);
+    }
+
+    @Benchmark
+    public BigDecimal somarValores() {
+        return vendas.stream()
+                .map(Venda::getValor)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
@@ -0,0 +1,94 @@
+package com.joaoMendes.vendas_api.benchmark;
+
+import com.joaoMendes.vendas_api.VendasApiApplication;
+import com.joaoMendes.vendas_api.domain.entities.Venda;
+import com.joaoMendes.vendas_api.domain.service.VendaService;
+import com.joaoMendes.vendas_api.dto.request.MediaPorPeriodoRequest;
+import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class VendaServiceBenchmark {
+
+    private static final int TAMANHO_LOTE_CARGA = 10_000;
+    private static final Long ID_VENDEDOR = 1L;
+
+    @Param({"1000", "100000", "1000000"})
+    private int tamanho;
+
+    private ConfigurableApplicationContext contexto;
+    private VendaService vendaService;
+    private MediaPorPeriodoRequest periodo;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        contexto = new SpringApplicationBuilder(VendasApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--vendas.venda-diaria.reconstruir-na-inicializacao=false",
+                        "--vendas.cache.media.ttl=0s"
+                );
+
+        popularBanco(contexto.getBean(JdbcTemplate.class));
+
+        vendaService = contexto.getBean(VendaService.class);
+        vendaService.verificarVendaDiaria(true);
+        periodo = new MediaPorPeriodoRequest(DadosBenchmark.DATA_INICIO, DadosBenchmark.DATA_FIM);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    private void popularBanco(JdbcTemplate jdbcTemplate) {
+        List<Object[]> vendedores = DadosBenchmark.vendedores().stream()
+                .map(vendedor -> new Object[]{vendedor.getId(), vendedor.getNome(), vendedor.getNomeNormalizado()})
+                .toList();
+        jdbcTemplate.batchUpdate("insert into tb_vendedor (id, nome, nome_normalizado) values (?, ?, ?)", vendedores);
+
+        List<Venda> vendas = DadosBenchmark.vendas(tamanho);
+        for (int inicio = 0; inicio < vendas.size(); inicio += TAMANHO_LOTE_CARGA) {
+            List<Venda> lote = vendas.subList(inicio, Math.min(inicio + TAMANHO_LOTE_CARGA, vendas.size()));
+            jdbcTemplate.batchUpdate(
+                    "insert into tb_venda (id, data_venda, valor, id_vendedor) values (?, ?, ?, ?)",
+                    lote,
+                    lote.size(),
+                    (ps, venda) -> {
+                        ps.setLong(1, venda.getId());
+                        ps.setDate(2, Date.valueOf(venda.getDataVenda()));
+                        ps.setBigDecimal(3, venda.getValor());
+                        ps.setLong(4, venda.getVendedor().getId());
+                    });
+        }
+    }
+
+    @Benchmark
+    public List<VendaResponse> getAll() {
+        return vendaService.getAll();
+    }
+
+    @Benchmark
+    public MediaPorPeriodoResponse calcularMediaPorPeriodo() {
+        return vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, periodo);
+    }
+}
@@ -0,0 +1,45 @@
+package com.joaoMendes.vendas_api.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    public enum Destino {
+        PRIMARIO,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARIO_EXIGIDO = ThreadLocal.withInitial(() -> false);
+
+    public RoteamentoDataSource(DataSource primario, DataSource replica) {
+        setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        afterPropertiesSet();
+    }
+
+    public static <T> T noPrimario(Supplier<T> operacao) {
+        boolean anterior = PRIMARIO_EXIGIDO.get();
+        PRIMARIO_EXIGIDO.set(true);
+        try {
+            return operacao.get();
+        } finally {
+            PRIMARIO_EXIGIDO.set(anterior);
+        }
+    }
+
+    public static Destino destinoAtual() {
+        return PRIMARIO_EXIGIDO.get() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Destino.PRIMARIO
+                : Destino.REPLICA;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return destinoAtual();
+    }
+}
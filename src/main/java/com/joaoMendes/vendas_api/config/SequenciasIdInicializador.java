@@ -0,0 +1,45 @@
+package com.joaoMendes.vendas_api.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class SequenciasIdInicializador {
+
+    private static final Map<String, String> SEQUENCIAS = Map.of(
+            "sq_venda", "tb_venda",
+            "sq_vendedor", "tb_vendedor"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void ajustar() {
+        SEQUENCIAS.forEach(this::ajustar);
+    }
+
+    private void ajustar(String sequencia, String tabela) {
+        Long maiorId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + tabela, Long.class);
+        Map<String, Object> atual = jdbcTemplate.queryForMap(
+                "select base_value, increment from information_schema.sequences where sequence_name = ?",
+                sequencia.toUpperCase());
+
+        long proximo = ((Number) atual.get("BASE_VALUE")).longValue();
+        long incremento = ((Number) atual.get("INCREMENT")).longValue();
+
+        if (maiorId >= proximo) {
+            long reinicio = maiorId + incremento;
+            jdbcTemplate.execute("alter sequence " + sequencia + " restart with " + reinicio);
+            log.info("Sequência {} reiniciada em {} (maior id em {}: {}).", sequencia, reinicio, tabela, maiorId);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.joaoMendes.vendas_api.controller;
+
+import com.joaoMendes.vendas_api.domain.service.IngestaoVendasExecutor;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.IngestaoVendaResponse;
+import com.joaoMendes.vendas_api.dto.response.StatusIngestaoResponse;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/vendas/ingestao")
+@ConditionalOnProperty(prefix = "vendas.ingestao", name = "habilitada", havingValue = "true")
+public class IngestaoVendaController {
+
+    @Autowired
+    private IngestaoVendasExecutor ingestaoVendasExecutor;
+
+    @PostMapping
+    public ResponseEntity<IngestaoVendaResponse> aceitar(@Valid @RequestBody VendaRequest request) {
+        IngestaoVendaResponse response = ingestaoVendasExecutor.aceitar(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<StatusIngestaoResponse> getStatus() {
+        return ResponseEntity.ok(ingestaoVendasExecutor.getStatus());
+    }
+}
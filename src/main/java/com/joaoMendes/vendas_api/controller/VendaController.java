@@ -1,20 +1,58 @@
 package com.joaoMendes.vendas_api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joaoMendes.vendas_api.domain.entities.StatusImportacao;
+import com.joaoMendes.vendas_api.domain.service.EstatisticaJobService;
+import com.joaoMendes.vendas_api.domain.service.IdempotenciaService;
+import com.joaoMendes.vendas_api.domain.service.ImportacaoExecutor;
+import com.joaoMendes.vendas_api.domain.service.ImportacaoService;
+import com.joaoMendes.vendas_api.domain.service.RespostaIdempotente;
+import com.joaoMendes.vendas_api.domain.service.VendaExportacaoService;
 import com.joaoMendes.vendas_api.domain.service.VendaService;
+import com.joaoMendes.vendas_api.dto.request.FormatoExportacao;
+import com.joaoMendes.vendas_api.dto.request.Granularidade;
 import com.joaoMendes.vendas_api.dto.request.MediaPorPeriodoRequest;
 import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.ExclusaoVendasResponse;
+import com.joaoMendes.vendas_api.dto.response.ImportacaoResponse;
+import com.joaoMendes.vendas_api.dto.response.JobEstatisticaResponse;
 import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import com.joaoMendes.vendas_api.dto.response.RejeicaoImportacaoResponse;
+import com.joaoMendes.vendas_api.dto.response.SerieVendasResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaPaginaResponse;
 import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import com.joaoMendes.vendas_api.dto.response.VerificacaoVendaDiariaResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
+import static com.joaoMendes.vendas_api.utils.ETagUtils.fraca;
+
 @RestController
 @RequestMapping("/vendas")
 public class VendaController {
@@ -22,18 +60,178 @@ public class VendaController {
     @Autowired
     private VendaService vendaService;
 
+    @Autowired
+    private VendaExportacaoService vendaExportacaoService;
+
+    @Autowired
+    private ImportacaoService importacaoService;
+
+    @Autowired
+    private ImportacaoExecutor importacaoExecutor;
+
+    @Autowired
+    private EstatisticaJobService estatisticaJobService;
+
+    @Autowired
+    private IdempotenciaService idempotenciaService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static final String MENSAGEM_LIMITE_LOTE =
+            "O lote pode ter no máximo " + VendaService.TAMANHO_MAXIMO_LOTE + " vendas.";
+
+    /**
+     * Lê o array elemento a elemento e interrompe a leitura assim que o limite do lote é ultrapassado,
+     * sem desserializar o restante do corpo.
+     */
+    private List<VendaRequest> lerJson(InputStream body) throws IOException {
+        List<VendaRequest> requests = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("O corpo do lote deve ser um array JSON de vendas.");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (requests.size() == VendaService.TAMANHO_MAXIMO_LOTE) {
+                    throw new IllegalArgumentException(MENSAGEM_LIMITE_LOTE);
+                }
+                requests.add(objectMapper.readValue(parser, VendaRequest.class));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("O corpo do lote não é um array JSON de vendas válido.");
+        }
+
+        return requests;
+    }
+
+    private List<VendaRequest> lerNdjson(InputStream body) throws IOException {
+        List<VendaRequest> requests = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            if (linha.isBlank()) {
+                continue;
+            }
+            if (requests.size() == VendaService.TAMANHO_MAXIMO_LOTE) {
+                throw new IllegalArgumentException(MENSAGEM_LIMITE_LOTE);
+            }
+            try {
+                requests.add(objectMapper.readValue(linha, VendaRequest.class));
+            } catch (JsonProcessingException e) {
+                requests.add(null);
+            }
+        }
+
+        return requests;
+    }
+
     @PostMapping
-    public ResponseEntity<VendaResponse> create(@Valid @RequestBody VendaRequest request) {
-        VendaResponse response = vendaService.create(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public ResponseEntity<VendaResponse> create(@Valid @RequestBody VendaRequest request,
+                                                @RequestHeader(value = "Idempotency-Key", required = false) String chave) {
+        if (chave == null) {
+            VendaResponse response = vendaService.create(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+
+        RespostaIdempotente resposta = idempotenciaService.create(chave, request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header("Idempotent-Replayed", String.valueOf(resposta.repetida()))
+                .body(resposta.venda());
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<VendaLoteResponse> createEmLote(InputStream body) throws IOException {
+        VendaLoteResponse response = vendaService.createEmLote(lerJson(body));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<VendaLoteResponse> createEmLoteNdjson(InputStream body) throws IOException {
+        VendaLoteResponse response = vendaService.createEmLote(lerNdjson(body));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportacaoResponse> importar(@RequestParam MultipartFile arquivo) throws IOException {
+        ImportacaoResponse response = importacaoService.receber(arquivo);
+        importacaoExecutor.iniciar(response);
+        HttpStatus status = response.status() == StatusImportacao.CONCLUIDA ? HttpStatus.OK : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status)
+                .location(URI.create("/vendas/import/" + response.id()))
+                .body(response);
+    }
+
+    @GetMapping("/import/{id}")
+    public ResponseEntity<ImportacaoResponse> getImportacao(@PathVariable Long id) {
+        ImportacaoResponse response = importacaoService.getById(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/import/{id}/rejeicoes")
+    public ResponseEntity<List<RejeicaoImportacaoResponse>> getRejeicoesImportacao(@PathVariable Long id,
+                                                                                   @RequestParam(defaultValue = "0") long after,
+                                                                                   @RequestParam(defaultValue = "100") int limit) {
+        List<RejeicaoImportacaoResponse> response = importacaoService.getRejeicoes(id, after, limit);
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<VendaResponse>> getAll() {
+    public ResponseEntity<List<VendaResponse>> getAll(WebRequest webRequest) {
+        if (webRequest.checkNotModified(fraca(vendaService.getETagColecao()))) {
+            return null;
+        }
+
         List<VendaResponse> response = vendaService.getAll();
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "limit")
+    public ResponseEntity<VendaPaginaResponse> getPagina(@RequestParam(required = false) String after,
+                                                         @RequestParam int limit) {
+        VendaPaginaResponse response = vendaService.getPagina(after, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                vendaService.streamAll(venda -> {
+                    try {
+                        generator.writeObject(venda);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar(@RequestParam(defaultValue = "csv") String formato,
+                                                          @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataInicio,
+                                                          @RequestParam(required = false) @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataFim) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.deValor(formato);
+        vendaService.validarPeriodo(dataInicio, dataFim);
+
+        StreamingResponseBody body = outputStream ->
+                vendaExportacaoService.exportar(formatoExportacao, dataInicio, dataFim, outputStream);
+        return ResponseEntity.ok()
+                .contentType(formatoExportacao.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("vendas." + formatoExportacao.getExtensao())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/vendedor/{id}")
     public ResponseEntity<List<VendaResponse>> getVendasPorVendedorById(@PathVariable Long id) {
         List<VendaResponse> response = vendaService.getVendasPorVendedorById(id);
@@ -41,14 +239,19 @@ public class VendaController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<VendaResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<VendaResponse> getById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(vendaService.getETag(id))) {
+            return null;
+        }
+
         VendaResponse response = vendaService.getById(id);
         return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<VendaResponse> update(@PathVariable Long id, @Valid @RequestBody VendaRequest request) {
-        VendaResponse response = vendaService.update(id, request);
+    public ResponseEntity<VendaResponse> update(@PathVariable Long id, @Valid @RequestBody VendaRequest request,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        VendaResponse response = vendaService.update(id, request, ifMatch);
         return ResponseEntity.ok(response);
     }
 
@@ -58,6 +261,20 @@ public class VendaController {
         return ResponseEntity.noContent().build();
     }
 
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<ExclusaoVendasResponse> deleteEmLote(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(vendaService.deleteEmLote(ids));
+    }
+
+    @DeleteMapping(params = "idVendedor")
+    public ResponseEntity<ExclusaoVendasResponse> deletePorPeriodo(
+            @RequestParam Long idVendedor,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataFim) {
+
+        return ResponseEntity.ok(vendaService.deletePorPeriodo(idVendedor, new MediaPorPeriodoRequest(dataInicio, dataFim)));
+    }
+
     @GetMapping("/{idVendedor}/estatistica")
     public ResponseEntity<MediaPorPeriodoResponse> calcularMediaPorPeriodo(
             @PathVariable Long idVendedor,
@@ -66,4 +283,39 @@ public class VendaController {
 
         return ResponseEntity.ok(vendaService.calcularMediaPorPeriodo(idVendedor, new MediaPorPeriodoRequest(dataInicio,dataFim)));
     }
+
+    @PostMapping("/{idVendedor}/estatistica/jobs")
+    public ResponseEntity<JobEstatisticaResponse> iniciarJobEstatistica(
+            @PathVariable Long idVendedor,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataFim) {
+
+        JobEstatisticaResponse response = estatisticaJobService.iniciar(idVendedor, new MediaPorPeriodoRequest(dataInicio, dataFim));
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/vendas/" + idVendedor + "/estatistica/jobs/" + response.id()))
+                .body(response);
+    }
+
+    @GetMapping("/{idVendedor}/estatistica/jobs/{id}")
+    public ResponseEntity<JobEstatisticaResponse> getJobEstatistica(@PathVariable Long idVendedor,
+                                                                    @PathVariable String id) {
+        return ResponseEntity.ok(estatisticaJobService.getById(idVendedor, id));
+    }
+
+    @GetMapping("/{idVendedor}/serie")
+    public ResponseEntity<SerieVendasResponse> getSerie(
+            @PathVariable Long idVendedor,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataFim,
+            @RequestParam(defaultValue = "DIA") Granularidade granularidade) {
+
+        return ResponseEntity.ok(vendaService.getSerie(idVendedor, new MediaPorPeriodoRequest(dataInicio, dataFim), granularidade));
+    }
+
+    @PostMapping("/diaria/verificacao")
+    public ResponseEntity<VerificacaoVendaDiariaResponse> verificarVendaDiaria(
+            @RequestParam(defaultValue = "false") boolean corrigir) {
+
+        return ResponseEntity.ok(vendaService.verificarVendaDiaria(corrigir));
+    }
 }
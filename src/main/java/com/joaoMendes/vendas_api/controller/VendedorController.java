@@ -1,16 +1,27 @@
 package com.joaoMendes.vendas_api.controller;
 
+import com.joaoMendes.vendas_api.domain.service.VendaService;
 import com.joaoMendes.vendas_api.domain.service.VendedorService;
+import com.joaoMendes.vendas_api.dto.request.MediaPorPeriodoRequest;
 import com.joaoMendes.vendas_api.dto.request.VendedorRequest;
+import com.joaoMendes.vendas_api.dto.response.CacheEstatisticasResponse;
+import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import com.joaoMendes.vendas_api.dto.response.PaginaResponse;
 import com.joaoMendes.vendas_api.dto.response.VendedorResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import static com.joaoMendes.vendas_api.utils.ETagUtils.fraca;
+
 @RestController
 @RequestMapping("/vendedores")
 public class VendedorController {
@@ -18,6 +29,9 @@ public class VendedorController {
     @Autowired
     private VendedorService vendedorService;
 
+    @Autowired
+    private VendaService vendaService;
+
     @PostMapping
     public ResponseEntity<VendedorResponse> create(@Valid @RequestBody VendedorRequest request) {
         VendedorResponse response = vendedorService.create(request);
@@ -31,20 +45,54 @@ public class VendedorController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<VendedorResponse> getById(@PathVariable Long id) {
+    public ResponseEntity<VendedorResponse> getById(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(vendedorService.getETag(id))) {
+            return null;
+        }
+
         VendedorResponse response = vendedorService.getById(id);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
-    public ResponseEntity<List<VendedorResponse>> getAll() {
+    public ResponseEntity<List<VendedorResponse>> getAll(WebRequest webRequest) {
+        if (webRequest.checkNotModified(fraca(vendedorService.getETagColecao()))) {
+            return null;
+        }
+
         List<VendedorResponse> response = vendedorService.getAll();
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "tamanho")
+    public ResponseEntity<PaginaResponse<VendedorResponse>> getPagina(
+            @RequestParam(required = false) String prefixo,
+            @RequestParam(defaultValue = "0") int pagina,
+            @RequestParam int tamanho,
+            @RequestParam(defaultValue = "nome") String ordenacao,
+            @RequestParam(defaultValue = "asc") String direcao) {
+
+        return ResponseEntity.ok(vendedorService.getPagina(prefixo, pagina, tamanho, ordenacao, direcao));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<VendedorResponse> update(@PathVariable Long id, @Valid @RequestBody VendedorRequest request) {
-        VendedorResponse response = vendedorService.update(id, request);
+    public ResponseEntity<VendedorResponse> update(@PathVariable Long id, @Valid @RequestBody VendedorRequest request,
+                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        VendedorResponse response = vendedorService.update(id, request, ifMatch);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/cache")
+    public ResponseEntity<List<CacheEstatisticasResponse>> getEstatisticasCache() {
+        return ResponseEntity.ok(vendedorService.getEstatisticasCache());
+    }
+
+    @GetMapping("/ranking")
+    public ResponseEntity<List<MediaPorPeriodoResponse>> getRanking(
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataInicio,
+            @RequestParam @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate dataFim,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        return ResponseEntity.ok(vendaService.getRanking(new MediaPorPeriodoRequest(dataInicio, dataFim), limit));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.joaoMendes.vendas_api.domain.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joaoMendes.vendas_api.domain.entities.ChaveIdempotencia;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+public class ChaveIdempotenciaCache implements MeterBinder {
+
+    private final Cache<String, ChaveIdempotencia> porChave;
+
+    public ChaveIdempotenciaCache(@Value("${vendas.cache.idempotencia.tamanho-maximo:10000}") long tamanhoMaximo,
+                                  @Value("${vendas.idempotencia.ttl:24h}") Duration ttl) {
+        this.porChave = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public ChaveIdempotencia buscar(String chave, LocalDateTime agora) {
+        ChaveIdempotencia registro = porChave.getIfPresent(chave);
+        return registro == null || registro.expirada(agora) ? null : registro;
+    }
+
+    public void registrar(ChaveIdempotencia registro) {
+        porChave.put(registro.getChave(), registro);
+    }
+
+    public void registrarAposCommit(ChaveIdempotencia registro) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registrar(registro);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registrar(registro);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, porChave, "chaveIdempotencia");
+    }
+}
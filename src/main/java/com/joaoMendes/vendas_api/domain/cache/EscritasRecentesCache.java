@@ -0,0 +1,81 @@
+package com.joaoMendes.vendas_api.domain.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joaoMendes.vendas_api.config.RoteamentoDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+@Component
+public class EscritasRecentesCache {
+
+    private final Cache<Long, Boolean> vendedores;
+    private final Cache<Long, Boolean> vendas;
+    private final boolean ativo;
+
+    public EscritasRecentesCache(@Value("${vendas.datasource.replica.atraso-maximo:0s}") Duration atrasoMaximo) {
+        this.ativo = !atrasoMaximo.isZero() && !atrasoMaximo.isNegative();
+        this.vendedores = criarCache(atrasoMaximo);
+        this.vendas = criarCache(atrasoMaximo);
+    }
+
+    private Cache<Long, Boolean> criarCache(Duration atrasoMaximo) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ativo ? atrasoMaximo : Duration.ofNanos(1))
+                .build();
+    }
+
+    private void registrar(Cache<Long, Boolean> escritas, Long id) {
+        if (!ativo || id == null) {
+            return;
+        }
+
+        escritas.put(id, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    escritas.put(id, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    public void registrar(Long idVendedor) {
+        registrar(vendedores, idVendedor);
+    }
+
+    public void registrarTodos(Collection<Long> idsVendedores) {
+        idsVendedores.forEach(this::registrar);
+    }
+
+    public void registrarVenda(Long idVenda) {
+        registrar(vendas, idVenda);
+    }
+
+    public void registrarVendas(Collection<Long> idsVendas) {
+        idsVendas.forEach(this::registrarVenda);
+    }
+
+    public boolean recente(Long idVendedor) {
+        return ativo && idVendedor != null && vendedores.getIfPresent(idVendedor) != null;
+    }
+
+    public boolean vendaRecente(Long idVenda) {
+        return ativo && idVenda != null && vendas.getIfPresent(idVenda) != null;
+    }
+
+    public <T> T lerAposEscrita(Long idVendedor, Supplier<T> leitura) {
+        return recente(idVendedor) ? RoteamentoDataSource.noPrimario(leitura) : leitura.get();
+    }
+
+    public <T> T lerVendaAposEscrita(Long idVenda, Supplier<T> leitura) {
+        return vendaRecente(idVenda) ? RoteamentoDataSource.noPrimario(leitura) : leitura.get();
+    }
+}
@@ -0,0 +1,124 @@
+package com.joaoMendes.vendas_api.domain.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class MediaPorPeriodoCache implements MeterBinder {
+
+    private final Cache<Chave, MediaPorPeriodoResponse> resultados;
+    private final boolean ativo;
+    private final Map<Chave, CompletableFuture<MediaPorPeriodoResponse>> emAndamento = new ConcurrentHashMap<>();
+    private final Map<Long, Long> geracoes = new ConcurrentHashMap<>();
+    private final AtomicLong geracaoAtual = new AtomicLong();
+    private final AtomicLong compartilhadas = new AtomicLong();
+
+    public MediaPorPeriodoCache(@Value("${vendas.cache.media.tamanho-maximo:1000}") long tamanhoMaximo,
+                                @Value("${vendas.cache.media.ttl:5s}") Duration ttl) {
+        this.ativo = !ttl.isZero() && !ttl.isNegative();
+        this.resultados = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ativo ? ttl : Duration.ofNanos(1))
+                .recordStats()
+                .build();
+    }
+
+    private static MediaPorPeriodoResponse aguardar(CompletableFuture<MediaPorPeriodoResponse> calculo) {
+        try {
+            return calculo.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private void avancarGeracao(Long idVendedor) {
+        geracoes.put(idVendedor, geracaoAtual.incrementAndGet());
+    }
+
+    public MediaPorPeriodoResponse buscar(Long idVendedor, LocalDate inicio, LocalDate fim,
+                                         Supplier<MediaPorPeriodoResponse> loader) {
+        Chave chave = new Chave(idVendedor, inicio, fim, geracoes.getOrDefault(idVendedor, 0L));
+
+        MediaPorPeriodoResponse cacheado = resultados.getIfPresent(chave);
+        if (cacheado != null) {
+            return cacheado;
+        }
+
+        CompletableFuture<MediaPorPeriodoResponse> calculo = new CompletableFuture<>();
+        CompletableFuture<MediaPorPeriodoResponse> existente = emAndamento.putIfAbsent(chave, calculo);
+        if (existente != null) {
+            compartilhadas.incrementAndGet();
+            return aguardar(existente);
+        }
+
+        try {
+            MediaPorPeriodoResponse resultado = loader.get();
+            if (ativo) {
+                resultados.put(chave, resultado);
+            }
+            calculo.complete(resultado);
+            return resultado;
+        } catch (Throwable e) {
+            calculo.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, calculo);
+        }
+    }
+
+    public void invalidar(Long idVendedor) {
+        if (idVendedor == null) {
+            return;
+        }
+
+        avancarGeracao(idVendedor);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    avancarGeracao(idVendedor);
+                }
+            });
+        }
+    }
+
+    public void invalidarTodos(Collection<Long> idsVendedores) {
+        idsVendedores.forEach(this::invalidar);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, resultados, "mediaPorPeriodo");
+        FunctionCounter.builder("vendas.estatistica.compartilhadas", compartilhadas, AtomicLong::get)
+                .description("Cálculos de média que aguardaram um cálculo idêntico já em andamento")
+                .register(registry);
+    }
+
+    private record Chave(Long idVendedor, LocalDate inicio, LocalDate fim, long geracao) {
+    }
+}
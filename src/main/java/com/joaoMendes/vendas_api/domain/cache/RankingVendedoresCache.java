@@ -0,0 +1,43 @@
+package com.joaoMendes.vendas_api.domain.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Component
+public class RankingVendedoresCache implements MeterBinder {
+
+    private final Cache<Chave, List<MediaPorPeriodoResponse>> cache;
+
+    public RankingVendedoresCache(@Value("${vendas.cache.ranking.tamanho-maximo:100}") long tamanhoMaximo,
+                                  @Value("${vendas.cache.ranking.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public List<MediaPorPeriodoResponse> buscar(LocalDate inicio, LocalDate fim, int limit,
+                                                Supplier<List<MediaPorPeriodoResponse>> loader) {
+        return cache.get(new Chave(inicio, fim, limit), chave -> loader.get());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "rankingVendedores");
+    }
+
+    private record Chave(LocalDate inicio, LocalDate fim, int limit) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.joaoMendes.vendas_api.domain.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+import com.joaoMendes.vendas_api.dto.response.CacheEstatisticasResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class VendedorCache implements MeterBinder {
+
+    private final Cache<Long, Vendedor> porId;
+
+    public VendedorCache(@Value("${vendas.cache.vendedor.tamanho-maximo:1000}") long tamanhoMaximo,
+                         @Value("${vendas.cache.vendedor.ttl:10m}") Duration ttl) {
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    private static CacheEstatisticasResponse estatisticas(String nome, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheEstatisticasResponse(
+                nome,
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount()
+        );
+    }
+
+    public Optional<Vendedor> buscarPorId(Long id, Function<Long, Optional<Vendedor>> loader) {
+        return Optional.ofNullable(porId.get(id, chave -> loader.apply(chave).orElse(null)));
+    }
+
+    public void invalidar(Long id) {
+        porId.invalidate(id);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, porId, "vendedorPorId");
+    }
+
+    public List<CacheEstatisticasResponse> estatisticas() {
+        return List.of(estatisticas("vendedorPorId", porId));
+    }
+}
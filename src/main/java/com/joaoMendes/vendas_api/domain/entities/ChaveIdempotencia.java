@@ -0,0 +1,63 @@
+package com.joaoMendes.vendas_api.domain.entities;
+
+import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = ChaveIdempotencia.TABELA, indexes = {
+        @Index(name = "idx_chave_idempotencia_expira_em", columnList = "expiraEm")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "chave")
+public class ChaveIdempotencia implements Serializable {
+
+    public static final String TABELA = "tb_chave_idempotencia";
+    public static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    @Id
+    @Column(length = TAMANHO_MAXIMO_CHAVE)
+    private String chave;
+
+    @Column(nullable = false, length = 64)
+    private String hashRequisicao;
+
+    private Long idVenda;
+    private LocalDate dataVenda;
+    private BigDecimal valor;
+
+    private Long idVendedor;
+    private String nomeVendedor;
+
+    @Column(nullable = false)
+    private LocalDateTime criadaEm;
+
+    @Column(nullable = false)
+    private LocalDateTime expiraEm;
+
+    public ChaveIdempotencia(String chave, String hashRequisicao, LocalDateTime criadaEm, LocalDateTime expiraEm) {
+        this.chave = chave;
+        this.hashRequisicao = hashRequisicao;
+        this.criadaEm = criadaEm;
+        this.expiraEm = expiraEm;
+    }
+
+    public void registrarResposta(VendaResponse resposta) {
+        this.idVenda = resposta.id();
+        this.dataVenda = resposta.dataVenda();
+        this.valor = resposta.valor();
+        this.idVendedor = resposta.idVendedor();
+        this.nomeVendedor = resposta.nomeVendedor();
+    }
+
+    public boolean expirada(LocalDateTime agora) {
+        return !expiraEm.isAfter(agora);
+    }
+}
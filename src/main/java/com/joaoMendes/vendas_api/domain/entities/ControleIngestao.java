@@ -0,0 +1,45 @@
+package com.joaoMendes.vendas_api.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tb_controle_ingestao")
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ControleIngestao implements Serializable {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long ultimaSequencia;
+
+    @Column(nullable = false)
+    private Long gravadas;
+
+    @Column(nullable = false)
+    private Long rejeitadas;
+
+    private LocalDateTime atualizadaEm;
+
+    public ControleIngestao(Long id) {
+        this.id = id;
+        this.ultimaSequencia = 0L;
+        this.gravadas = 0L;
+        this.rejeitadas = 0L;
+        this.atualizadaEm = LocalDateTime.now();
+    }
+
+    public void registrarGrupo(long ultimaSequencia, long gravadas, long rejeitadas) {
+        this.ultimaSequencia = ultimaSequencia;
+        this.gravadas += gravadas;
+        this.rejeitadas += rejeitadas;
+        this.atualizadaEm = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,89 @@
+package com.joaoMendes.vendas_api.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tb_importacao", indexes = {
+        @Index(name = "uk_importacao_hash", columnList = "hash", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class Importacao implements Serializable {
+
+    public static final int TAMANHO_MAXIMO_ERRO = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sq_importacao")
+    @SequenceGenerator(name = "sq_importacao", sequenceName = "sq_importacao", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    private String nomeArquivo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusImportacao status;
+
+    @Column(nullable = false)
+    private Long totalLinhas;
+
+    @Column(nullable = false)
+    private Long linhasProcessadas;
+
+    @Column(nullable = false)
+    private Long inseridas;
+
+    @Column(nullable = false)
+    private Long rejeitadas;
+
+    @Column(length = TAMANHO_MAXIMO_ERRO)
+    private String erro;
+
+    private LocalDateTime criadaEm;
+    private LocalDateTime atualizadaEm;
+
+    public Importacao(String hash, String nomeArquivo, long totalLinhas) {
+        this.hash = hash;
+        this.nomeArquivo = nomeArquivo;
+        this.status = StatusImportacao.PROCESSANDO;
+        this.totalLinhas = totalLinhas;
+        this.linhasProcessadas = 0L;
+        this.inseridas = 0L;
+        this.rejeitadas = 0L;
+        this.criadaEm = LocalDateTime.now();
+        this.atualizadaEm = this.criadaEm;
+    }
+
+    public void registrarBloco(long linhasProcessadas, long inseridas, long rejeitadas) {
+        this.linhasProcessadas = linhasProcessadas;
+        this.inseridas += inseridas;
+        this.rejeitadas += rejeitadas;
+        this.atualizadaEm = LocalDateTime.now();
+    }
+
+    public void concluir() {
+        this.status = StatusImportacao.CONCLUIDA;
+        this.linhasProcessadas = this.totalLinhas;
+        this.atualizadaEm = LocalDateTime.now();
+    }
+
+    public void falhar(String erro) {
+        this.status = StatusImportacao.FALHA;
+        this.erro = erro == null || erro.length() <= TAMANHO_MAXIMO_ERRO ? erro : erro.substring(0, TAMANHO_MAXIMO_ERRO);
+        this.atualizadaEm = LocalDateTime.now();
+    }
+
+    public void retomar() {
+        this.status = StatusImportacao.PROCESSANDO;
+        this.erro = null;
+        this.atualizadaEm = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,39 @@
+package com.joaoMendes.vendas_api.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "tb_importacao_rejeicao", indexes = {
+        @Index(name = "idx_importacao_rejeicao_linha", columnList = "id_importacao, linha")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class RejeicaoImportacao implements Serializable {
+
+    public static final String SEPARADOR_ERROS = "; ";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sq_importacao_rejeicao")
+    @SequenceGenerator(name = "sq_importacao_rejeicao", sequenceName = "sq_importacao_rejeicao", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "id_importacao", nullable = false)
+    private Long idImportacao;
+
+    @Column(nullable = false)
+    private Long linha;
+
+    @Column(length = 1000)
+    private String erros;
+
+    public RejeicaoImportacao(Long idImportacao, Long linha, String erros) {
+        this.idImportacao = idImportacao;
+        this.linha = linha;
+        this.erros = erros;
+    }
+}
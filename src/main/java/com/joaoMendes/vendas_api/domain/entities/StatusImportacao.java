@@ -0,0 +1,7 @@
+package com.joaoMendes.vendas_api.domain.entities;
+
+public enum StatusImportacao {
+    PROCESSANDO,
+    CONCLUIDA,
+    FALHA
+}
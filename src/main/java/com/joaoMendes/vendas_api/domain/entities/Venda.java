@@ -1,31 +1,45 @@
 package com.joaoMendes.vendas_api.domain.entities;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "tb_venda")
+@Table(name = "tb_venda", indexes = {
+        @Index(name = "idx_venda_vendedor_data", columnList = "id_vendedor, data_venda")
+})
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 public class Venda implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sq_venda")
+    @SequenceGenerator(name = "sq_venda", sequenceName = "sq_venda", allocationSize = 50)
     private Long id;
 
     private LocalDate dataVenda;
     private BigDecimal valor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_vendedor")
     private Vendedor vendedor;
 
+    @Version
+    @ColumnDefault("0")
+    private Long versao;
+
+    public Venda(Long id, LocalDate dataVenda, BigDecimal valor, Vendedor vendedor) {
+        this.id = id;
+        this.dataVenda = dataVenda;
+        this.valor = valor;
+        this.vendedor = vendedor;
+    }
+
     public void updateFrom(Venda venda) {
         this.dataVenda = venda.getDataVenda();
         this.valor = venda.getValor();
@@ -0,0 +1,26 @@
+package com.joaoMendes.vendas_api.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "tb_venda_diaria")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class VendaDiaria implements Serializable {
+
+    @EmbeddedId
+    private VendaDiariaId id;
+
+    @Column(nullable = false)
+    private BigDecimal total;
+
+    @Column(nullable = false)
+    private Long quantidade;
+}
@@ -0,0 +1,23 @@
+package com.joaoMendes.vendas_api.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class VendaDiariaId implements Serializable {
+
+    @Column(name = "id_vendedor")
+    private Long idVendedor;
+
+    @Column(name = "data_venda")
+    private LocalDate dataVenda;
+}
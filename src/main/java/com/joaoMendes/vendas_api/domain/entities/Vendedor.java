@@ -2,25 +2,51 @@ package com.joaoMendes.vendas_api.domain.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serializable;
 
+import static com.joaoMendes.vendas_api.utils.StringUtils.cleanAndNormalize;
+
 @Entity
-@Table(name = "tb_vendedor")
+@Table(name = "tb_vendedor", indexes = {
+        @Index(name = Vendedor.UK_NOME_NORMALIZADO, columnList = "nome_normalizado", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @EqualsAndHashCode(of = "id")
 public class Vendedor implements Serializable {
 
+    public static final String UK_NOME_NORMALIZADO = "uk_vendedor_nome_normalizado";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sq_vendedor")
+    @SequenceGenerator(name = "sq_vendedor", sequenceName = "sq_vendedor", allocationSize = 50)
     private Long id;
 
     private String nome;
 
+    @Column(name = "nome_normalizado")
+    private String nomeNormalizado;
+
+    @Version
+    @ColumnDefault("0")
+    private Long versao;
+
+    public Vendedor(Long id, String nome) {
+        this.id = id;
+        this.nome = nome;
+        normalizarNome();
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void normalizarNome() {
+        this.nomeNormalizado = nome == null ? null : cleanAndNormalize(nome);
+    }
+
     public void updateFrom(Vendedor vendedor) {
         this.nome = vendedor.getNome();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package com.joaoMendes.vendas_api.domain.exception;
+
+public class ChaveIdempotenciaEmUsoException extends RuntimeException {
+
+    public ChaveIdempotenciaEmUsoException(String chave) {
+        super("Outra requisição com a chave de idempotência " + chave + " está em andamento. Tente novamente em instantes.");
+    }
+}
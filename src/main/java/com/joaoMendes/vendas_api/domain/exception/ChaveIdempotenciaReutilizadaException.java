@@ -0,0 +1,8 @@
+package com.joaoMendes.vendas_api.domain.exception;
+
+public class ChaveIdempotenciaReutilizadaException extends RuntimeException {
+
+    public ChaveIdempotenciaReutilizadaException(String chave) {
+        super("A chave de idempotência " + chave + " já foi usada com outra requisição.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.joaoMendes.vendas_api.domain.exception;
+
+public class ImportacaoNotFoundException extends RuntimeException {
+
+    public ImportacaoNotFoundException(Long id) {
+        super("Importação não encontrada com ID: " + id);
+    }
+}
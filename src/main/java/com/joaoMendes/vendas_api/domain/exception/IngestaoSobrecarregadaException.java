@@ -0,0 +1,8 @@
+package com.joaoMendes.vendas_api.domain.exception;
+
+public class IngestaoSobrecarregadaException extends RuntimeException {
+
+    public IngestaoSobrecarregadaException() {
+        super("Fila de ingestão cheia, tente novamente em instantes.");
+    }
+}
@@ -0,0 +1,8 @@
+package com.joaoMendes.vendas_api.domain.exception;
+
+public class JobNotFoundException extends RuntimeException {
+
+    public JobNotFoundException(String id) {
+        super("Job não encontrado com ID: " + id);
+    }
+}
@@ -0,0 +1,9 @@
+package com.joaoMendes.vendas_api.domain.exception;
+
+public class VersaoConflitanteException extends RuntimeException {
+
+    public VersaoConflitanteException(String recurso, Long id) {
+        super("O registro de " + recurso + " com ID " + id
+                + " foi alterado por outra requisição. Busque a versão atual e tente novamente.");
+    }
+}
@@ -0,0 +1,18 @@
+package com.joaoMendes.vendas_api.domain.repository;
+
+import com.joaoMendes.vendas_api.domain.entities.ChaveIdempotencia;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ChaveIdempotenciaRepository extends JpaRepository<ChaveIdempotencia, String> {
+
+    @Transactional
+    @Modifying
+    @Query("delete from ChaveIdempotencia c where c.expiraEm <= :agora")
+    int excluirExpiradas(@Param("agora") LocalDateTime agora);
+}
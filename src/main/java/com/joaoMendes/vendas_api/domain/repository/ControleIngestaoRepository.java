@@ -0,0 +1,7 @@
+package com.joaoMendes.vendas_api.domain.repository;
+
+import com.joaoMendes.vendas_api.domain.entities.ControleIngestao;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ControleIngestaoRepository extends JpaRepository<ControleIngestao, Long> {
+}
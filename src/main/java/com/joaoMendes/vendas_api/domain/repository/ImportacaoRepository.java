@@ -0,0 +1,15 @@
+package com.joaoMendes.vendas_api.domain.repository;
+
+import com.joaoMendes.vendas_api.domain.entities.Importacao;
+import com.joaoMendes.vendas_api.domain.entities.StatusImportacao;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ImportacaoRepository extends JpaRepository<Importacao, Long> {
+
+    Optional<Importacao> findByHash(String hash);
+
+    List<Importacao> findByStatusOrderById(StatusImportacao status);
+}
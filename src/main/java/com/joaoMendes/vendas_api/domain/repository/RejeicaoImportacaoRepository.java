@@ -0,0 +1,12 @@
+package com.joaoMendes.vendas_api.domain.repository;
+
+import com.joaoMendes.vendas_api.domain.entities.RejeicaoImportacao;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface RejeicaoImportacaoRepository extends JpaRepository<RejeicaoImportacao, Long> {
+
+    List<RejeicaoImportacao> findByIdImportacaoAndLinhaGreaterThanOrderByLinha(Long idImportacao, Long linha, Limit limit);
+}
@@ -0,0 +1,112 @@
+package com.joaoMendes.vendas_api.domain.repository;
+
+import com.joaoMendes.vendas_api.domain.entities.VendaDiaria;
+import com.joaoMendes.vendas_api.domain.entities.VendaDiariaId;
+import com.joaoMendes.vendas_api.domain.repository.projection.RankingVendedorProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.ResumoVendasProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.VendaDiariaProjection;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.AvailableHints.HINT_FETCH_SIZE;
+
+public interface VendaDiariaRepository extends JpaRepository<VendaDiaria, VendaDiariaId> {
+
+    @Modifying
+    @Query("""
+            update VendaDiaria d
+            set d.total = d.total + :total, d.quantidade = d.quantidade + :quantidade
+            where d.id.idVendedor = :idVendedor and d.id.dataVenda = :dataVenda
+            """)
+    int acumular(@Param("idVendedor") Long idVendedor,
+                 @Param("dataVenda") LocalDate dataVenda,
+                 @Param("total") BigDecimal total,
+                 @Param("quantidade") long quantidade);
+
+    @Query(value = "select id from tb_vendedor where id = :idVendedor for update", nativeQuery = true)
+    Long bloquearVendedor(@Param("idVendedor") Long idVendedor);
+
+    @Modifying
+    @Query(value = """
+            insert into tb_venda_diaria (id_vendedor, data_venda, total, quantidade)
+            values (:idVendedor, :dataVenda, :total, :quantidade)
+            """, nativeQuery = true)
+    int inserir(@Param("idVendedor") Long idVendedor,
+                @Param("dataVenda") LocalDate dataVenda,
+                @Param("total") BigDecimal total,
+                @Param("quantidade") long quantidade);
+
+    @Modifying
+    @Query("""
+            update VendaDiaria d
+            set d.total = :total, d.quantidade = :quantidade
+            where d.id.idVendedor = :idVendedor and d.id.dataVenda = :dataVenda
+            """)
+    int definir(@Param("idVendedor") Long idVendedor,
+                @Param("dataVenda") LocalDate dataVenda,
+                @Param("total") BigDecimal total,
+                @Param("quantidade") long quantidade);
+
+    @Modifying
+    @Query("delete from VendaDiaria d where d.id.idVendedor = :idVendedor and d.id.dataVenda = :dataVenda")
+    int remover(@Param("idVendedor") Long idVendedor, @Param("dataVenda") LocalDate dataVenda);
+
+    @Modifying
+    @Query("""
+            delete from VendaDiaria d
+            where d.id.idVendedor = :idVendedor and d.id.dataVenda = :dataVenda and d.quantidade <= 0
+            """)
+    int removerSeVazia(@Param("idVendedor") Long idVendedor, @Param("dataVenda") LocalDate dataVenda);
+
+    @Query("""
+            select coalesce(sum(d.total), 0) as totalVendido, coalesce(sum(d.quantidade), 0) as quantidadeVendas
+            from VendaDiaria d
+            where d.id.idVendedor = :idVendedor and d.id.dataVenda between :inicio and :fim
+            """)
+    ResumoVendasProjection resumirPorVendedorEPeriodo(@Param("idVendedor") Long idVendedor,
+                                                      @Param("inicio") LocalDate inicio,
+                                                      @Param("fim") LocalDate fim);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select d.id.idVendedor as idVendedor, d.id.dataVenda as dataVenda,
+                   d.total as total, d.quantidade as quantidade
+            from VendaDiaria d
+            order by d.id.idVendedor, d.id.dataVenda
+            """)
+    Stream<VendaDiariaProjection> listarOrdenadas();
+
+    @Query("""
+            select d.id.idVendedor as idVendedor, d.id.dataVenda as dataVenda,
+                   d.total as total, d.quantidade as quantidade
+            from VendaDiaria d
+            where d.id.idVendedor = :idVendedor and d.id.dataVenda between :inicio and :fim
+            order by d.id.dataVenda
+            """)
+    List<VendaDiariaProjection> listarPorVendedorEPeriodo(@Param("idVendedor") Long idVendedor,
+                                                          @Param("inicio") LocalDate inicio,
+                                                          @Param("fim") LocalDate fim);
+
+    @Query("""
+            select ve.id as idVendedor, ve.nome as nomeVendedor,
+                   sum(d.total) as totalVendido, sum(d.quantidade) as quantidadeVendas
+            from VendaDiaria d
+            join Vendedor ve on ve.id = d.id.idVendedor
+            where d.id.dataVenda between :inicio and :fim
+            group by ve.id, ve.nome
+            order by sum(d.total) desc, ve.id
+            """)
+    List<RankingVendedorProjection> ranquearPorPeriodo(@Param("inicio") LocalDate inicio,
+                                                       @Param("fim") LocalDate fim,
+                                                       Limit limit);
+}
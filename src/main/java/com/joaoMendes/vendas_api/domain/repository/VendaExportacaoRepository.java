@@ -0,0 +1,53 @@
+package com.joaoMendes.vendas_api.domain.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+@Repository
+public class VendaExportacaoRepository {
+
+    public static final int TAMANHO_FETCH = 1000;
+
+    private static final String SQL_EXPORTACAO = """
+            select v.id, v.data_venda, v.valor, ve.id, ve.nome
+            from tb_venda v
+            join tb_vendedor ve on ve.id = v.id_vendedor
+            where v.data_venda between ? and ?
+            order by v.id
+            """;
+
+    private static final String SQL_EXPORTACAO_COMPLETA = """
+            select v.id, v.data_venda, v.valor, ve.id, ve.nome
+            from tb_venda v
+            join tb_vendedor ve on ve.id = v.id_vendedor
+            order by v.id
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void percorrer(LocalDate inicio, LocalDate fim, RowCallbackHandler handler) {
+        boolean filtrarPeriodo = inicio != null && fim != null;
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    filtrarPeriodo ? SQL_EXPORTACAO : SQL_EXPORTACAO_COMPLETA,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+            );
+            statement.setFetchSize(TAMANHO_FETCH);
+            if (filtrarPeriodo) {
+                statement.setDate(1, Date.valueOf(inicio));
+                statement.setDate(2, Date.valueOf(fim));
+            }
+            return statement;
+        }, handler);
+    }
+}
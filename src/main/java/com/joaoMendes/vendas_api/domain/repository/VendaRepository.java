@@ -2,14 +2,96 @@ package com.joaoMendes.vendas_api.domain.repository;
 
 import com.joaoMendes.vendas_api.domain.entities.Venda;
 import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+import com.joaoMendes.vendas_api.domain.repository.projection.VendaDiariaProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.VersaoVendaProjection;
+import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.AvailableHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.AvailableHints.HINT_READ_ONLY;
 
 public interface VendaRepository extends JpaRepository<Venda, Long> {
 
+    @Override
+    @EntityGraph(attributePaths = "vendedor")
+    Optional<Venda> findById(Long id);
+
+    @EntityGraph(attributePaths = "vendedor")
     List<Venda> findByVendedor(Vendedor vendedor);
 
-    List<Venda> findByVendedorAndDataVendaBetween(Vendedor vendedor, LocalDate inicio, LocalDate fim);
+    @Query("""
+            select new com.joaoMendes.vendas_api.dto.response.VendaResponse(v.id, v.dataVenda, v.valor, ve.id, ve.nome)
+            from Venda v
+            join v.vendedor ve
+            order by v.id
+            """)
+    List<VendaResponse> listarResponses();
+
+    @Query("""
+            select v.vendedor.id as idVendedor, v.dataVenda as dataVenda, sum(v.valor) as total, count(v) as quantidade
+            from Venda v
+            where v.id in :ids
+            group by v.vendedor.id, v.dataVenda
+            """)
+    List<VendaDiariaProjection> resumirPorIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select v.vendedor.id as idVendedor, v.dataVenda as dataVenda, sum(v.valor) as total, count(v) as quantidade
+            from Venda v
+            where v.vendedor.id = :idVendedor and v.dataVenda between :inicio and :fim
+            group by v.vendedor.id, v.dataVenda
+            """)
+    List<VendaDiariaProjection> resumirPorVendedorEPeriodo(@Param("idVendedor") Long idVendedor,
+                                                           @Param("inicio") LocalDate inicio,
+                                                           @Param("fim") LocalDate fim);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Venda v where v.id in :ids")
+    int excluirPorIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Venda v where v.vendedor.id = :idVendedor and v.dataVenda between :inicio and :fim")
+    int excluirPorVendedorEPeriodo(@Param("idVendedor") Long idVendedor,
+                                   @Param("inicio") LocalDate inicio,
+                                   @Param("fim") LocalDate fim);
+
+    @Query("""
+            select v.versao as versaoVenda, ve.versao as versaoVendedor
+            from Venda v
+            join v.vendedor ve
+            where v.id = :id
+            """)
+    Optional<VersaoVendaProjection> buscarVersao(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select v.vendedor.id as idVendedor, v.dataVenda as dataVenda, sum(v.valor) as total, count(v) as quantidade
+            from Venda v
+            group by v.vendedor.id, v.dataVenda
+            order by v.vendedor.id, v.dataVenda
+            """)
+    Stream<VendaDiariaProjection> resumirPorVendedorEDia();
+
+    @EntityGraph(attributePaths = "vendedor")
+    List<Venda> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select v from Venda v join fetch v.vendedor order by v.id")
+    Stream<Venda> streamAll();
 }
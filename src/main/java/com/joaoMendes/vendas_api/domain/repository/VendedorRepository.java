@@ -1,13 +1,35 @@
 package com.joaoMendes.vendas_api.domain.repository;
 
 import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+import com.joaoMendes.vendas_api.domain.repository.projection.VersaoVendedoresProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface VendedorRepository extends JpaRepository<Vendedor, Long> {
 
     Optional<Vendedor> findByNome(String nome);
-    Optional<Vendedor> findByNomeIgnoreCase(String nome);
+
+    Page<Vendedor> findByNomeNormalizadoStartingWith(String prefixo, Pageable pageable);
+
+    List<Vendedor> findByNomeNormalizadoIsNull();
+
+    @Transactional
+    @Modifying
+    @Query("delete from Vendedor ve where ve.id = :id")
+    int excluirPorId(@Param("id") Long id);
+
+    @Query("""
+            select count(ve) as quantidade, coalesce(max(ve.id), 0) as maiorId, coalesce(sum(ve.versao), 0) as somaVersoes
+            from Vendedor ve
+            """)
+    VersaoVendedoresProjection resumirVersoes();
 
 }
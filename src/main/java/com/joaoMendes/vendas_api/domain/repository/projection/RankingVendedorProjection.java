@@ -0,0 +1,14 @@
+package com.joaoMendes.vendas_api.domain.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface RankingVendedorProjection {
+
+    Long getIdVendedor();
+
+    String getNomeVendedor();
+
+    BigDecimal getTotalVendido();
+
+    Long getQuantidadeVendas();
+}
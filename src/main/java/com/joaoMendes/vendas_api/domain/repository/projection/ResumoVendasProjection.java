@@ -0,0 +1,10 @@
+package com.joaoMendes.vendas_api.domain.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface ResumoVendasProjection {
+
+    BigDecimal getTotalVendido();
+
+    Long getQuantidadeVendas();
+}
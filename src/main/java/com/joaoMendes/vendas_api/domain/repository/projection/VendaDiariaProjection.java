@@ -0,0 +1,15 @@
+package com.joaoMendes.vendas_api.domain.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface VendaDiariaProjection {
+
+    Long getIdVendedor();
+
+    LocalDate getDataVenda();
+
+    BigDecimal getTotal();
+
+    Long getQuantidade();
+}
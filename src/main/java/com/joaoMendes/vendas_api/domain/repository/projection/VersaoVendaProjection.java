@@ -0,0 +1,8 @@
+package com.joaoMendes.vendas_api.domain.repository.projection;
+
+public interface VersaoVendaProjection {
+
+    Long getVersaoVenda();
+
+    Long getVersaoVendedor();
+}
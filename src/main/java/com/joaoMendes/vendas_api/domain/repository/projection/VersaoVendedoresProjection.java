@@ -0,0 +1,10 @@
+package com.joaoMendes.vendas_api.domain.repository.projection;
+
+public interface VersaoVendedoresProjection {
+
+    Long getQuantidade();
+
+    Long getMaiorId();
+
+    Long getSomaVersoes();
+}
@@ -0,0 +1,206 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.joaoMendes.vendas_api.domain.exception.JobNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.PeriodoInvalidoException;
+import com.joaoMendes.vendas_api.dto.request.MediaPorPeriodoRequest;
+import com.joaoMendes.vendas_api.dto.response.JobEstatisticaResponse;
+import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import com.joaoMendes.vendas_api.dto.response.StatusJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class EstatisticaJobService implements MeterBinder {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Cache<String, Job> jobs;
+    private final Map<Chave, Job> emAndamento = new ConcurrentHashMap<>();
+    private final Map<String, Job> emAndamentoPorId = new ConcurrentHashMap<>();
+
+    @Autowired
+    private VendaService vendaService;
+    @Autowired
+    private VendedorService vendedorService;
+
+    public EstatisticaJobService(@Value("${vendas.estatistica.jobs.threads:2}") int threads,
+                                 @Value("${vendas.estatistica.jobs.fila:100}") int fila,
+                                 @Value("${vendas.estatistica.jobs.retencao:10m}") Duration retencao) {
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(fila);
+        this.executor.setThreadNamePrefix("estatistica-");
+        this.executor.initialize();
+
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(retencao)
+                .build();
+    }
+
+    private JobEstatisticaResponse toResponse(Job job) {
+        CompletableFuture<MediaPorPeriodoResponse> resultado = job.resultado();
+        StatusJob status;
+        MediaPorPeriodoResponse media = null;
+        String erro = null;
+
+        if (!resultado.isDone()) {
+            status = job.iniciado() ? StatusJob.EXECUTANDO : StatusJob.PENDENTE;
+        } else if (resultado.isCompletedExceptionally()) {
+            status = StatusJob.FALHA;
+            Throwable causa = resultado.handle((valor, ex) -> ex instanceof CompletionException ? ex.getCause() : ex).join();
+            erro = Objects.toString(causa.getMessage(), causa.getClass().getSimpleName());
+        } else {
+            status = StatusJob.CONCLUIDO;
+            media = resultado.join();
+        }
+
+        return new JobEstatisticaResponse(
+                job.id(),
+                job.chave().idVendedor(),
+                job.chave().inicio(),
+                job.chave().fim(),
+                status,
+                media,
+                erro,
+                job.criadoEm(),
+                job.concluidoEm()
+        );
+    }
+
+    private Job criarJob(Chave chave) {
+        Job job = new Job(UUID.randomUUID().toString(), chave);
+        MediaPorPeriodoRequest periodo = new MediaPorPeriodoRequest(chave.inicio(), chave.fim());
+
+        emAndamentoPorId.put(job.id(), job);
+        try {
+            executor.execute(() -> {
+                job.iniciar();
+                MediaPorPeriodoResponse media = null;
+                RuntimeException falha = null;
+                try {
+                    media = vendaService.calcularMediaPorPeriodo(chave.idVendedor(), periodo);
+                } catch (RuntimeException e) {
+                    falha = e;
+                }
+
+                job.concluir();
+                jobs.put(job.id(), job);
+                emAndamentoPorId.remove(job.id());
+                emAndamento.remove(chave, job);
+
+                if (falha != null) {
+                    job.resultado().completeExceptionally(falha);
+                } else {
+                    job.resultado().complete(media);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            emAndamentoPorId.remove(job.id());
+            throw e;
+        }
+
+        return job;
+    }
+
+    public JobEstatisticaResponse iniciar(Long idVendedor, MediaPorPeriodoRequest periodo) {
+        if (periodo.getDataFim().isBefore(periodo.getDataInicio())) {
+            throw new PeriodoInvalidoException(periodo.getDataInicio(), periodo.getDataFim());
+        }
+        vendedorService.getById(idVendedor);
+
+        Chave chave = new Chave(idVendedor, periodo.getDataInicio(), periodo.getDataFim());
+        return toResponse(emAndamento.computeIfAbsent(chave, this::criarJob));
+    }
+
+    public JobEstatisticaResponse getById(Long idVendedor, String id) {
+        Job job = emAndamentoPorId.get(id);
+        if (job == null) {
+            job = jobs.getIfPresent(id);
+        }
+        if (job == null || !job.chave().idVendedor().equals(idVendedor)) {
+            throw new JobNotFoundException(id);
+        }
+
+        return toResponse(job);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "estatisticaJobs", Tags.empty()).bindTo(registry);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdown();
+    }
+
+    private record Chave(Long idVendedor, LocalDate inicio, LocalDate fim) {
+    }
+
+    private static final class Job {
+
+        private final String id;
+        private final Chave chave;
+        private final LocalDateTime criadoEm = LocalDateTime.now();
+        private final CompletableFuture<MediaPorPeriodoResponse> resultado = new CompletableFuture<>();
+        private volatile boolean iniciado;
+        private volatile LocalDateTime concluidoEm;
+
+        private Job(String id, Chave chave) {
+            this.id = id;
+            this.chave = chave;
+        }
+
+        String id() {
+            return id;
+        }
+
+        Chave chave() {
+            return chave;
+        }
+
+        LocalDateTime criadoEm() {
+            return criadoEm;
+        }
+
+        CompletableFuture<MediaPorPeriodoResponse> resultado() {
+            return resultado;
+        }
+
+        boolean iniciado() {
+            return iniciado;
+        }
+
+        LocalDateTime concluidoEm() {
+            return concluidoEm;
+        }
+
+        void iniciar() {
+            iniciado = true;
+        }
+
+        void concluir() {
+            concluidoEm = LocalDateTime.now();
+        }
+    }
+}
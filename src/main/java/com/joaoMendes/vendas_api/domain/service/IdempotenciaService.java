@@ -0,0 +1,76 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.domain.cache.ChaveIdempotenciaCache;
+import com.joaoMendes.vendas_api.domain.entities.ChaveIdempotencia;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaReutilizadaException;
+import com.joaoMendes.vendas_api.domain.repository.ChaveIdempotenciaRepository;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.mapper.VendaMapper;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+@Service
+@Timed("vendas.service")
+public class IdempotenciaService {
+
+    @Autowired
+    private VendaService vendaService;
+    @Autowired
+    private ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+    @Autowired
+    private ChaveIdempotenciaCache chaveIdempotenciaCache;
+    @Autowired
+    private VendaMapper mapper;
+
+    @Value("${vendas.idempotencia.ttl:24h}")
+    private Duration ttl;
+
+    private void validarChave(String chave) {
+        if (chave.isBlank() || chave.length() > ChaveIdempotencia.TAMANHO_MAXIMO_CHAVE) {
+            throw new IllegalArgumentException("O cabeçalho Idempotency-Key deve ter entre 1 e "
+                    + ChaveIdempotencia.TAMANHO_MAXIMO_CHAVE + " caracteres.");
+        }
+    }
+
+    private String calcularHash(VendaRequest request) {
+        String conteudo = request.getDataVenda() + "|" + request.getValor().stripTrailingZeros().toPlainString()
+                + "|" + request.getIdVendedor();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(conteudo.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public RespostaIdempotente create(String chave, VendaRequest request) {
+        validarChave(chave);
+        String hashRequisicao = calcularHash(request);
+        LocalDateTime agora = LocalDateTime.now();
+
+        ChaveIdempotencia registro = chaveIdempotenciaCache.buscar(chave, agora);
+        if (registro == null) {
+            return vendaService.createIdempotente(chave, hashRequisicao, agora.plus(ttl), request);
+        }
+        if (!registro.getHashRequisicao().equals(hashRequisicao)) {
+            throw new ChaveIdempotenciaReutilizadaException(chave);
+        }
+
+        return new RespostaIdempotente(mapper.toResponseIdempotente(registro), true);
+    }
+
+    @Scheduled(fixedDelayString = "${vendas.idempotencia.intervalo-limpeza:10m}")
+    public void excluirExpiradas() {
+        chaveIdempotenciaRepository.excluirExpiradas(LocalDateTime.now());
+    }
+}
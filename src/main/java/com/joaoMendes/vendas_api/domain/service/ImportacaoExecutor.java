@@ -0,0 +1,75 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.config.RoteamentoDataSource;
+import com.joaoMendes.vendas_api.domain.entities.StatusImportacao;
+import com.joaoMendes.vendas_api.dto.response.ImportacaoResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ImportacaoExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportacaoExecutor.class);
+
+    @Autowired
+    private ImportacaoService importacaoService;
+    @Autowired
+    private TaskExecutor applicationTaskExecutor;
+
+    private final Set<Long> emExecucao = ConcurrentHashMap.newKeySet();
+
+    public void iniciar(ImportacaoResponse importacao) {
+        Long id = importacao.id();
+        if (importacao.status() != StatusImportacao.PROCESSANDO || !emExecucao.add(id)) {
+            return;
+        }
+
+        try {
+            applicationTaskExecutor.execute(() -> {
+                try {
+                    processar(id, importacao.hash());
+                } finally {
+                    emExecucao.remove(id);
+                }
+            });
+        } catch (RuntimeException e) {
+            emExecucao.remove(id);
+            throw e;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void retomarPendentes() {
+        List<ImportacaoResponse> pendentes = importacaoService.listarPendentes();
+        if (!pendentes.isEmpty()) {
+            log.info("Retomando {} importação(ões) de vendas interrompida(s).", pendentes.size());
+            pendentes.forEach(this::iniciar);
+        }
+    }
+
+    void processar(Long id, String hash) {
+        try (LeitorImportacaoVendas leitor = LeitorImportacaoVendas.abrir(importacaoService.getArquivo(hash))) {
+            leitor.pular(RoteamentoDataSource.noPrimario(() -> importacaoService.getById(id)).linhasProcessadas());
+
+            List<LinhaImportacao> bloco;
+            while (!(bloco = leitor.lerBloco(ImportacaoService.TAMANHO_BLOCO)).isEmpty()) {
+                importacaoService.registrarBloco(id, bloco, leitor.getLinhasLidas());
+            }
+
+            importacaoService.concluir(id);
+        } catch (Exception e) {
+            log.error("Falha na importação de vendas {}.", id, e);
+            importacaoService.falhar(id, Objects.toString(e.getMessage(), e.getClass().getSimpleName()));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.config.RoteamentoDataSource;
+import com.joaoMendes.vendas_api.domain.entities.Importacao;
+import com.joaoMendes.vendas_api.domain.entities.RejeicaoImportacao;
+import com.joaoMendes.vendas_api.domain.entities.StatusImportacao;
+import com.joaoMendes.vendas_api.domain.exception.ImportacaoNotFoundException;
+import com.joaoMendes.vendas_api.domain.repository.ImportacaoRepository;
+import com.joaoMendes.vendas_api.domain.repository.RejeicaoImportacaoRepository;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.ImportacaoResponse;
+import com.joaoMendes.vendas_api.dto.response.RejeicaoImportacaoResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteErroResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteResponse;
+import com.joaoMendes.vendas_api.mapper.ImportacaoMapper;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Timed("vendas.service")
+public class ImportacaoService {
+
+    public static final int TAMANHO_BLOCO = 1000;
+    public static final int LIMITE_MAXIMO_REJEICOES = 1000;
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    @Autowired
+    private ImportacaoRepository importacaoRepository;
+    @Autowired
+    private RejeicaoImportacaoRepository rejeicaoImportacaoRepository;
+    @Autowired
+    private VendaService vendaService;
+    @Autowired
+    private ImportacaoMapper mapper;
+
+    @Value("${vendas.importacao.diretorio:./data/importacoes}")
+    private Path diretorio;
+
+    private Importacao findImportacaoOrThrow(Long id) {
+        return importacaoRepository.findById(id)
+                .orElseThrow(() -> new ImportacaoNotFoundException(id));
+    }
+
+    private MessageDigest criarDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long copiarContandoLinhas(InputStream entrada, Path destino, MessageDigest digest) throws IOException {
+        byte[] buffer = new byte[TAMANHO_BUFFER];
+        long quebras = 0;
+        int ultimoByte = '\n';
+        int lidos;
+
+        try (OutputStream saida = Files.newOutputStream(destino)) {
+            while ((lidos = entrada.read(buffer)) != -1) {
+                digest.update(buffer, 0, lidos);
+                saida.write(buffer, 0, lidos);
+                for (int i = 0; i < lidos; i++) {
+                    if (buffer[i] == '\n') {
+                        quebras++;
+                    }
+                }
+                ultimoByte = buffer[lidos - 1];
+            }
+        }
+
+        long linhas = ultimoByte == '\n' ? quebras : quebras + 1;
+        return Math.max(linhas - 1, 0);
+    }
+
+    private void validarCabecalho(Path arquivo) throws IOException {
+        try (LeitorImportacaoVendas ignored = LeitorImportacaoVendas.abrir(arquivo)) {
+        }
+    }
+
+    public Path getArquivo(String hash) {
+        return diretorio.resolve(hash + ".csv");
+    }
+
+    private Optional<Importacao> buscarPorHash(String hash) {
+        return RoteamentoDataSource.noPrimario(() -> importacaoRepository.findByHash(hash));
+    }
+
+    public ImportacaoResponse receber(MultipartFile arquivo) throws IOException {
+        if (arquivo.isEmpty()) {
+            throw new IllegalArgumentException("O arquivo está vazio.");
+        }
+
+        Files.createDirectories(diretorio);
+        Path temporario = Files.createTempFile(diretorio, "upload-", ".csv");
+
+        try {
+            MessageDigest digest = criarDigest();
+            long totalLinhas;
+            try (InputStream entrada = arquivo.getInputStream()) {
+                totalLinhas = copiarContandoLinhas(entrada, temporario, digest);
+            }
+            validarCabecalho(temporario);
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Optional<Importacao> existente = buscarPorHash(hash);
+            if (existente.isPresent() && existente.get().getStatus() != StatusImportacao.FALHA) {
+                return mapper.toResponse(existente.get());
+            }
+
+            // O nome do arquivo é o hash do conteúdo: um arquivo já presente é idêntico e pode estar sendo lido
+            // por uma importação em andamento, então é reaproveitado em vez de substituído.
+            Path destino = getArquivo(hash);
+            if (Files.notExists(destino)) {
+                Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            Importacao importacao = existente.orElseGet(() -> new Importacao(hash, arquivo.getOriginalFilename(), totalLinhas));
+            if (importacao.getStatus() == StatusImportacao.FALHA) {
+                importacao.retomar();
+            }
+            try {
+                return mapper.toResponse(importacaoRepository.save(importacao));
+            } catch (DataIntegrityViolationException e) {
+                return mapper.toResponse(buscarPorHash(hash).orElseThrow(() -> e));
+            }
+        } finally {
+            Files.deleteIfExists(temporario);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ImportacaoResponse getById(Long id) {
+        return mapper.toResponse(findImportacaoOrThrow(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ImportacaoResponse> listarPendentes() {
+        return importacaoRepository.findByStatusOrderById(StatusImportacao.PROCESSANDO)
+                .stream()
+                .map(mapper::toResponse)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<RejeicaoImportacaoResponse> getRejeicoes(Long id, long after, int limit) {
+        if (limit < 1 || limit > LIMITE_MAXIMO_REJEICOES) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + LIMITE_MAXIMO_REJEICOES + ".");
+        }
+        findImportacaoOrThrow(id);
+
+        return rejeicaoImportacaoRepository.findByIdImportacaoAndLinhaGreaterThanOrderByLinha(id, after, Limit.of(limit))
+                .stream()
+                .map(mapper::toResponse)
+                .toList();
+    }
+
+    @Transactional
+    public void registrarBloco(Long id, List<LinhaImportacao> linhas, long linhasProcessadas) {
+        Importacao importacao = findImportacaoOrThrow(id);
+
+        List<LinhaImportacao> validas = linhas.stream()
+                .filter(LinhaImportacao::valida)
+                .toList();
+        List<VendaRequest> requests = validas.stream()
+                .map(LinhaImportacao::request)
+                .toList();
+
+        VendaLoteResponse lote = requests.isEmpty()
+                ? new VendaLoteResponse(0, 0, List.of())
+                : vendaService.createEmLote(requests);
+
+        List<RejeicaoImportacao> rejeicoes = new ArrayList<>();
+        for (LinhaImportacao linha : linhas) {
+            if (!linha.valida()) {
+                rejeicoes.add(mapper.toEntity(id, linha.numero(), linha.erros()));
+            }
+        }
+        for (VendaLoteErroResponse erro : lote.erros()) {
+            rejeicoes.add(mapper.toEntity(id, validas.get(erro.indice()).numero(), erro.erros()));
+        }
+        rejeicoes.sort(Comparator.comparing(RejeicaoImportacao::getLinha));
+
+        rejeicaoImportacaoRepository.saveAll(rejeicoes);
+        importacao.registrarBloco(linhasProcessadas, lote.inseridas(), rejeicoes.size());
+    }
+
+    @Transactional
+    public void concluir(Long id) throws IOException {
+        Importacao importacao = findImportacaoOrThrow(id);
+        importacao.concluir();
+        Files.deleteIfExists(getArquivo(importacao.getHash()));
+    }
+
+    @Transactional
+    public void falhar(Long id, String erro) {
+        findImportacaoOrThrow(id).falhar(erro);
+    }
+}
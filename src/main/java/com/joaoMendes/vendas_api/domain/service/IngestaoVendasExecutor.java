@@ -0,0 +1,440 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joaoMendes.vendas_api.domain.exception.IngestaoSobrecarregadaException;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.IngestaoVendaResponse;
+import com.joaoMendes.vendas_api.dto.response.StatusIngestaoResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(prefix = "vendas.ingestao", name = "habilitada", havingValue = "true")
+@DependsOn("sequenciasIdInicializador")
+public class IngestaoVendasExecutor implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestaoVendasExecutor.class);
+
+    public static final String ARQUIVO_LOG = "vendas.log";
+    private static final long ESPERA_GRUPO_MS = 200;
+    private static final long ESPERA_NOVA_TENTATIVA_MS = 1000;
+    private static final long ESPERA_ENCERRAMENTO_MS = 30000;
+
+    @Autowired
+    private IngestaoVendasService ingestaoVendasService;
+    @Autowired
+    private VendedorService vendedorService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final int capacidade;
+    private final int tamanhoGrupo;
+    private final long tamanhoMaximoLog;
+    private final Path arquivo;
+    private final BlockingQueue<RegistroIngestao> fila;
+    private final Object travaLog = new Object();
+    private final Thread gravador = new Thread(this::gravarContinuamente, "ingestao-vendas");
+
+    private FileChannel canal;
+    private LoteLog loteAberto = new LoteLog();
+    private boolean sincronizando;
+    private int reservados;
+    private long ultimaSequenciaAtribuida;
+    private long ultimaSequenciaAceita;
+    private volatile long ultimaSequenciaGravada;
+    private volatile boolean encerrando;
+
+    private static final class LoteLog {
+        private final List<RegistroIngestao> registros = new ArrayList<>();
+        private long bytes;
+        private boolean concluido;
+        private IOException falha;
+    }
+
+    public IngestaoVendasExecutor(@Value("${vendas.ingestao.capacidade:10000}") int capacidade,
+                                  @Value("${vendas.ingestao.tamanho-grupo:500}") int tamanhoGrupo,
+                                  @Value("${vendas.ingestao.tamanho-maximo-log:16MB}") DataSize tamanhoMaximoLog,
+                                  @Value("${vendas.ingestao.diretorio:./data/ingestao}") Path diretorio) {
+        if (tamanhoGrupo < 1 || tamanhoGrupo > VendaService.TAMANHO_MAXIMO_LOTE) {
+            throw new IllegalArgumentException("vendas.ingestao.tamanho-grupo deve estar entre 1 e "
+                    + VendaService.TAMANHO_MAXIMO_LOTE + ".");
+        }
+
+        this.capacidade = capacidade;
+        this.tamanhoGrupo = tamanhoGrupo;
+        this.tamanhoMaximoLog = tamanhoMaximoLog.toBytes();
+        this.arquivo = diretorio.resolve(ARQUIVO_LOG);
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+    }
+
+    @PostConstruct
+    public void iniciar() throws IOException {
+        Files.createDirectories(arquivo.getParent());
+
+        long checkpoint = ingestaoVendasService.getUltimaSequenciaGravada();
+        List<RegistroIngestao> pendentes = new ArrayList<>();
+        long maiorSequencia = checkpoint;
+
+        for (RegistroIngestao registro : lerLog()) {
+            maiorSequencia = Math.max(maiorSequencia, registro.sequencia());
+            if (registro.sequencia() > checkpoint) {
+                pendentes.add(registro);
+            }
+        }
+
+        if (!pendentes.isEmpty()) {
+            log.info("Regravando {} venda(s) pendente(s) do log de ingestão.", pendentes.size());
+            for (int i = 0; i < pendentes.size(); i += tamanhoGrupo) {
+                ingestaoVendasService.gravarGrupo(pendentes.subList(i, Math.min(i + tamanhoGrupo, pendentes.size())));
+            }
+            ingestaoVendasService.sincronizarBanco();
+        }
+
+        canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        canal.truncate(0);
+        canal.force(true);
+
+        ultimaSequenciaAtribuida = maiorSequencia;
+        ultimaSequenciaAceita = maiorSequencia;
+        ultimaSequenciaGravada = maiorSequencia;
+        gravador.start();
+    }
+
+    private List<RegistroIngestao> lerLog() throws IOException {
+        return lerLog(Long.MAX_VALUE);
+    }
+
+    private List<RegistroIngestao> lerLog(long limite) throws IOException {
+        List<RegistroIngestao> registros = new ArrayList<>();
+        if (!Files.exists(arquivo)) {
+            return registros;
+        }
+
+        try (BufferedReader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            long lidos = 0;
+            String linha;
+            while (lidos < limite && (linha = leitor.readLine()) != null) {
+                lidos += linha.getBytes(StandardCharsets.UTF_8).length + 1;
+                if (linha.isBlank()) {
+                    continue;
+                }
+                try {
+                    registros.add(objectMapper.readValue(linha, RegistroIngestao.class));
+                } catch (JsonProcessingException e) {
+                    log.warn("Linha incompleta ignorada no log de ingestão: {}", linha);
+                }
+            }
+        }
+
+        return registros;
+    }
+
+    public IngestaoVendaResponse aceitar(VendaRequest request) {
+        vendedorService.getById(request.getIdVendedor());
+
+        RegistroIngestao registro;
+        LoteLog lote;
+        synchronized (travaLog) {
+            if (encerrando || fila.remainingCapacity() <= reservados) {
+                throw new IngestaoSobrecarregadaException();
+            }
+
+            registro = RegistroIngestao.de(ultimaSequenciaAtribuida + 1, request);
+            int bytes = anexar(registro);
+            ultimaSequenciaAtribuida = registro.sequencia();
+            reservados++;
+            lote = loteAberto;
+            lote.registros.add(registro);
+            lote.bytes += bytes;
+        }
+
+        sincronizar(lote);
+        return new IngestaoVendaResponse(registro.sequencia(), LocalDateTime.now());
+    }
+
+    private void sincronizar(LoteLog lote) {
+        FileChannel canalLote;
+        synchronized (travaLog) {
+            while (!lote.concluido && sincronizando) {
+                aguardarSincronizacao();
+            }
+            if (lote.concluido) {
+                verificarFalha(lote);
+                return;
+            }
+
+            sincronizando = true;
+            loteAberto = new LoteLog();
+            canalLote = canal;
+        }
+
+        IOException falha = null;
+        try {
+            canalLote.force(false);
+        } catch (IOException e) {
+            falha = e;
+        }
+
+        synchronized (travaLog) {
+            sincronizando = false;
+            lote.concluido = true;
+            lote.falha = falha;
+            reservados -= lote.registros.size();
+            if (falha == null) {
+                fila.addAll(lote.registros);
+                ultimaSequenciaAceita = lote.registros.get(lote.registros.size() - 1).sequencia();
+                Metrics.summary("vendas.ingestao.log.grupo").record(lote.registros.size());
+            } else {
+                log.error("Falha ao sincronizar {} venda(s) no log de ingestão.", lote.registros.size(), falha);
+                descartar(lote, falha);
+            }
+            travaLog.notifyAll();
+        }
+        verificarFalha(lote);
+    }
+
+    /**
+     * Remove do fim do log as linhas do lote que falhou e as do lote aberto, anexadas depois dele e ainda não
+     * sincronizadas; os clientes dos dois lotes recebem erro. Se ficassem no log, essas vendas seriam regravadas
+     * na próxima inicialização e duplicariam a nova tentativa do cliente. Chamado com travaLog.
+     */
+    private void descartar(LoteLog lote, IOException falha) {
+        LoteLog seguinte = loteAberto;
+        loteAberto = new LoteLog();
+        seguinte.concluido = true;
+        seguinte.falha = falha;
+        reservados -= seguinte.registros.size();
+        ultimaSequenciaAtribuida = ultimaSequenciaAceita;
+
+        try {
+            canal.truncate(canal.size() - lote.bytes - seguinte.bytes);
+            canal.force(true);
+        } catch (IOException e) {
+            log.error("Falha ao descartar {} venda(s) não sincronizada(s) do log de ingestão; "
+                    + "serão regravadas na próxima inicialização.", lote.registros.size() + seguinte.registros.size(), e);
+        }
+    }
+
+    private void aguardarSincronizacao() {
+        try {
+            travaLog.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando a sincronização do log de ingestão.", e);
+        }
+    }
+
+    private void verificarFalha(LoteLog lote) {
+        if (lote.falha != null) {
+            throw new UncheckedIOException("Falha ao gravar o log de ingestão.", lote.falha);
+        }
+    }
+
+    private String linha(RegistroIngestao registro) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(registro) + "\n";
+    }
+
+    private int anexar(RegistroIngestao registro) {
+        long tamanhoAnterior = -1;
+        try {
+            byte[] linha = linha(registro).getBytes(StandardCharsets.UTF_8);
+            tamanhoAnterior = canal.size();
+            ByteBuffer buffer = ByteBuffer.wrap(linha);
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            return linha.length;
+        } catch (IOException e) {
+            descartarEscritaParcial(tamanhoAnterior);
+            throw new UncheckedIOException("Falha ao gravar o log de ingestão.", e);
+        }
+    }
+
+    private void descartarEscritaParcial(long tamanhoAnterior) {
+        if (tamanhoAnterior < 0) {
+            return;
+        }
+        try {
+            canal.truncate(tamanhoAnterior);
+        } catch (IOException e) {
+            log.error("Falha ao descartar escrita parcial no log de ingestão.", e);
+        }
+    }
+
+    private void gravarContinuamente() {
+        List<RegistroIngestao> grupo = new ArrayList<>(tamanhoGrupo);
+
+        while (!encerrando || !fila.isEmpty()) {
+            try {
+                RegistroIngestao primeiro = fila.poll(ESPERA_GRUPO_MS, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    compactarLog();
+                    continue;
+                }
+
+                grupo.add(primeiro);
+                fila.drainTo(grupo, tamanhoGrupo - 1);
+                if (!gravar(grupo)) {
+                    return;
+                }
+                grupo.clear();
+                compactarLog();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean gravar(List<RegistroIngestao> grupo) throws InterruptedException {
+        while (true) {
+            try {
+                ingestaoVendasService.gravarGrupo(grupo);
+                Metrics.summary("vendas.ingestao.grupo").record(grupo.size());
+                ultimaSequenciaGravada = grupo.get(grupo.size() - 1).sequencia();
+                return true;
+            } catch (RuntimeException e) {
+                if (encerrando) {
+                    log.error("Falha ao gravar {} venda(s) da ingestão; serão regravadas na próxima inicialização.",
+                            grupo.size(), e);
+                    return false;
+                }
+                log.error("Falha ao gravar {} venda(s) da ingestão; nova tentativa em {} ms.",
+                        grupo.size(), ESPERA_NOVA_TENTATIVA_MS, e);
+                Thread.sleep(ESPERA_NOVA_TENTATIVA_MS);
+            }
+        }
+    }
+
+    private boolean podeEsvaziar(long gravada) {
+        return gravada == ultimaSequenciaAceita && reservados == 0;
+    }
+
+    private boolean precisaCompactar(long gravada) throws IOException {
+        return canal.size() > 0 && (podeEsvaziar(gravada) || canal.size() > tamanhoMaximoLog);
+    }
+
+    private void compactarLog() {
+        long gravada = ultimaSequenciaGravada;
+        try {
+            synchronized (travaLog) {
+                if (!precisaCompactar(gravada)) {
+                    return;
+                }
+            }
+
+            ingestaoVendasService.sincronizarBanco();
+
+            long limite;
+            synchronized (travaLog) {
+                if (podeEsvaziar(gravada)) {
+                    canal.truncate(0);
+                    canal.force(true);
+                    return;
+                }
+                if (canal.size() <= tamanhoMaximoLog) {
+                    return;
+                }
+                limite = canal.size();
+            }
+            reescreverLog(gravada, limite);
+        } catch (IOException | RuntimeException e) {
+            log.error("Falha ao compactar o log de ingestão.", e);
+        }
+    }
+
+    private void reescreverLog(long gravada, long limite) throws IOException {
+        Path temporario = arquivo.resolveSibling(ARQUIVO_LOG + ".tmp");
+
+        try (BufferedWriter escritor = Files.newBufferedWriter(temporario, StandardCharsets.UTF_8)) {
+            for (RegistroIngestao registro : lerLog(limite)) {
+                if (registro.sequencia() > gravada) {
+                    escritor.write(linha(registro));
+                }
+            }
+        }
+
+        try (FileChannel temporarioCanal = FileChannel.open(temporario, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            temporarioCanal.force(true);
+
+            synchronized (travaLog) {
+                while (sincronizando) {
+                    aguardarSincronizacao();
+                }
+
+                try (FileChannel leitura = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                    long posicao = limite;
+                    while (posicao < leitura.size()) {
+                        posicao += leitura.transferTo(posicao, leitura.size() - posicao, temporarioCanal);
+                    }
+                }
+                temporarioCanal.force(true);
+
+                canal.close();
+                Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+        }
+    }
+
+    public StatusIngestaoResponse getStatus() {
+        synchronized (travaLog) {
+            return new StatusIngestaoResponse(fila.size(), capacidade, ultimaSequenciaAceita, ultimaSequenciaGravada);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("vendas.ingestao.pendentes", fila, BlockingQueue::size)
+                .description("Vendas aceitas pela ingestão e ainda não gravadas no banco")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException, IOException {
+        synchronized (travaLog) {
+            encerrando = true;
+        }
+
+        gravador.join(ESPERA_ENCERRAMENTO_MS);
+        if (gravador.isAlive()) {
+            gravador.interrupt();
+        }
+
+        if (canal != null) {
+            compactarLog();
+            canal.close();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.domain.entities.ControleIngestao;
+import com.joaoMendes.vendas_api.domain.repository.ControleIngestaoRepository;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteErroResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(prefix = "vendas.ingestao", name = "habilitada", havingValue = "true")
+public class IngestaoVendasService {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestaoVendasService.class);
+
+    public static final Long ID_CONTROLE = 1L;
+
+    @Autowired
+    private ControleIngestaoRepository controleIngestaoRepository;
+    @Autowired
+    private VendaService vendaService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${vendas.ingestao.comando-sincronizacao:}")
+    private String comandoSincronizacao;
+
+    private ControleIngestao findControle() {
+        return controleIngestaoRepository.findById(ID_CONTROLE)
+                .orElseGet(() -> controleIngestaoRepository.save(new ControleIngestao(ID_CONTROLE)));
+    }
+
+    @Transactional
+    public long getUltimaSequenciaGravada() {
+        return findControle().getUltimaSequencia();
+    }
+
+    @Transactional
+    public VendaLoteResponse gravarGrupo(List<RegistroIngestao> registros) {
+        ControleIngestao controle = findControle();
+
+        List<RegistroIngestao> novos = registros.stream()
+                .filter(registro -> registro.sequencia() > controle.getUltimaSequencia())
+                .toList();
+        if (novos.isEmpty()) {
+            return new VendaLoteResponse(0, 0, List.of());
+        }
+
+        VendaLoteResponse lote = vendaService.createEmLote(novos.stream()
+                .map(RegistroIngestao::toRequest)
+                .toList());
+
+        for (VendaLoteErroResponse erro : lote.erros()) {
+            log.warn("Venda {} da ingestão rejeitada: {}", novos.get(erro.indice()).sequencia(), erro.erros());
+        }
+
+        controle.registrarGrupo(novos.get(novos.size() - 1).sequencia(), lote.inseridas(), lote.erros().size());
+        return lote;
+    }
+
+    public void sincronizarBanco() {
+        if (comandoSincronizacao != null && !comandoSincronizacao.isBlank()) {
+            jdbcTemplate.execute(comandoSincronizacao);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.joaoMendes.vendas_api.utils.CsvUtils.alternaAspas;
+import static com.joaoMendes.vendas_api.utils.CsvUtils.separarCampos;
+
+public class LeitorImportacaoVendas implements Closeable {
+
+    public static final String COLUNA_DATA_VENDA = "dataVenda";
+    public static final String COLUNA_VALOR = "valor";
+    public static final String COLUNA_ID_VENDEDOR = "idVendedor";
+
+    public static final int TAMANHO_MAXIMO_REGISTRO = 64 * 1024;
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final BufferedReader reader;
+    private final int colunaDataVenda;
+    private final int colunaValor;
+    private final int colunaIdVendedor;
+    private final int quantidadeColunas;
+    private long linhasLidas;
+
+    private LeitorImportacaoVendas(BufferedReader reader, List<String> cabecalho) {
+        this.reader = reader;
+        this.colunaDataVenda = cabecalho.indexOf(COLUNA_DATA_VENDA);
+        this.colunaValor = cabecalho.indexOf(COLUNA_VALOR);
+        this.colunaIdVendedor = cabecalho.indexOf(COLUNA_ID_VENDEDOR);
+        this.quantidadeColunas = cabecalho.size();
+    }
+
+    public static LeitorImportacaoVendas abrir(Path arquivo) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+        try {
+            String cabecalho = reader.readLine();
+            List<String> colunas = cabecalho == null ? List.of() : separarCampos(removerBom(cabecalho))
+                    .stream()
+                    .map(String::trim)
+                    .toList();
+
+            if (!colunas.containsAll(List.of(COLUNA_DATA_VENDA, COLUNA_VALOR, COLUNA_ID_VENDEDOR))) {
+                throw new IllegalArgumentException("O cabeçalho do arquivo deve ter as colunas "
+                        + COLUNA_DATA_VENDA + ", " + COLUNA_VALOR + " e " + COLUNA_ID_VENDEDOR + ".");
+            }
+            return new LeitorImportacaoVendas(reader, colunas);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private static String removerBom(String linha) {
+        return linha.startsWith("\uFEFF") ? linha.substring(1) : linha;
+    }
+
+    public long getLinhasLidas() {
+        return linhasLidas;
+    }
+
+    public void pular(long linhas) throws IOException {
+        while (linhasLidas < linhas && reader.readLine() != null) {
+            linhasLidas++;
+        }
+    }
+
+    public List<LinhaImportacao> lerBloco(int tamanho) throws IOException {
+        List<LinhaImportacao> bloco = new ArrayList<>(tamanho);
+        String linha;
+
+        while (bloco.size() < tamanho && (linha = reader.readLine()) != null) {
+            linhasLidas++;
+            if (alternaAspas(linha)) {
+                bloco.add(lerRegistroMultilinha(linhasLidas + 1, linha));
+            } else if (!linha.isBlank()) {
+                bloco.add(converter(linhasLidas + 1, linha));
+            }
+        }
+
+        return bloco;
+    }
+
+    /**
+     * Junta as linhas seguintes até o campo entre aspas ser fechado. O registro recebe o número da linha em que
+     * começa, e as linhas físicas continuam contadas em linhasLidas para que pular() retome no ponto certo.
+     */
+    private LinhaImportacao lerRegistroMultilinha(long numero, String primeiraLinha) throws IOException {
+        StringBuilder registro = new StringBuilder(primeiraLinha);
+        boolean entreAspas = true;
+        String linha;
+
+        while (entreAspas && (linha = reader.readLine()) != null) {
+            linhasLidas++;
+            entreAspas = alternaAspas(linha) != entreAspas;
+            if (registro.length() <= TAMANHO_MAXIMO_REGISTRO) {
+                registro.append('\n').append(linha);
+            }
+        }
+
+        if (entreAspas) {
+            return new LinhaImportacao(numero, null, List.of("Campo entre aspas não foi fechado até o fim do arquivo."));
+        }
+        if (registro.length() > TAMANHO_MAXIMO_REGISTRO) {
+            return new LinhaImportacao(numero, null, List.of("Registro com mais de " + TAMANHO_MAXIMO_REGISTRO + " caracteres."));
+        }
+        return converter(numero, registro.toString());
+    }
+
+    private LinhaImportacao converter(long numero, String linha) {
+        List<String> campos = separarCampos(linha);
+        if (campos.size() != quantidadeColunas) {
+            return new LinhaImportacao(numero, null, List.of("Quantidade de colunas inválida: esperado "
+                    + quantidadeColunas + ", encontrado " + campos.size() + "."));
+        }
+
+        List<String> erros = new ArrayList<>();
+        VendaRequest request = new VendaRequest();
+
+        String dataVenda = campos.get(colunaDataVenda).trim();
+        if (!dataVenda.isEmpty()) {
+            try {
+                request.setDataVenda(LocalDate.parse(dataVenda, FORMATO_DATA));
+            } catch (DateTimeParseException e) {
+                erros.add(COLUNA_DATA_VENDA + ": data inválida, use dd/MM/yyyy.");
+            }
+        }
+
+        String valor = campos.get(colunaValor).trim();
+        if (!valor.isEmpty()) {
+            try {
+                request.setValor(new BigDecimal(valor));
+            } catch (NumberFormatException e) {
+                erros.add(COLUNA_VALOR + ": número inválido.");
+            }
+        }
+
+        String idVendedor = campos.get(colunaIdVendedor).trim();
+        if (!idVendedor.isEmpty()) {
+            try {
+                request.setIdVendedor(Long.valueOf(idVendedor));
+            } catch (NumberFormatException e) {
+                erros.add(COLUNA_ID_VENDEDOR + ": número inválido.");
+            }
+        }
+
+        return new LinhaImportacao(numero, erros.isEmpty() ? request : null, erros);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,14 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+
+import java.util.List;
+
+public record LinhaImportacao(long numero,
+                              VendaRequest request,
+                              List<String> erros) {
+
+    public boolean valida() {
+        return erros.isEmpty();
+    }
+}
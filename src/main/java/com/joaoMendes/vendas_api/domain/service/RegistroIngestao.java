@@ -0,0 +1,22 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RegistroIngestao(Long sequencia,
+                               @JsonFormat(pattern = "dd/MM/yyyy")
+                               LocalDate dataVenda,
+                               BigDecimal valor,
+                               Long idVendedor) {
+
+    public static RegistroIngestao de(long sequencia, VendaRequest request) {
+        return new RegistroIngestao(sequencia, request.getDataVenda(), request.getValor(), request.getIdVendedor());
+    }
+
+    public VendaRequest toRequest() {
+        return new VendaRequest(dataVenda, valor, idVendedor);
+    }
+}
@@ -0,0 +1,6 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+
+public record RespostaIdempotente(VendaResponse venda, boolean repetida) {
+}
@@ -0,0 +1,238 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.domain.entities.Venda;
+import com.joaoMendes.vendas_api.domain.entities.VendaDiaria;
+import com.joaoMendes.vendas_api.domain.entities.VendaDiariaId;
+import com.joaoMendes.vendas_api.domain.repository.VendaDiariaRepository;
+import com.joaoMendes.vendas_api.domain.repository.VendaRepository;
+import com.joaoMendes.vendas_api.domain.repository.projection.RankingVendedorProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.ResumoVendasProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.VendaDiariaProjection;
+import com.joaoMendes.vendas_api.dto.response.DivergenciaVendaDiariaResponse;
+import com.joaoMendes.vendas_api.dto.response.VerificacaoVendaDiariaResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+@Service
+@Timed("vendas.service")
+public class VendaDiariaService {
+
+    public static final int LIMITE_DIVERGENCIAS_REPORTADAS = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(VendaDiariaService.class);
+
+    @Autowired
+    private VendaDiariaRepository vendaDiariaRepository;
+    @Autowired
+    private VendaRepository vendaRepository;
+    @Autowired
+    private VersaoVendasService versaoVendasService;
+
+    @Value("${vendas.venda-diaria.reconstruir-na-inicializacao:true}")
+    private boolean reconstruirNaInicializacao;
+
+    private static final Comparator<VendaDiariaProjection> ORDEM_DIAS = Comparator
+            .comparing(VendaDiariaProjection::getIdVendedor)
+            .thenComparing(VendaDiariaProjection::getDataVenda);
+
+    private boolean divergente(VendaDiariaProjection registrada, VendaDiariaProjection esperada) {
+        return registrada == null
+                || registrada.getTotal().compareTo(esperada.getTotal()) != 0
+                || !registrada.getQuantidade().equals(esperada.getQuantidade());
+    }
+
+    @Transactional
+    public void acumular(Long idVendedor, LocalDate dataVenda, BigDecimal total, long quantidade) {
+        versaoVendasService.registrarEscrita();
+        if (vendaDiariaRepository.acumular(idVendedor, dataVenda, total, quantidade) == 0) {
+            vendaDiariaRepository.bloquearVendedor(idVendedor);
+            if (vendaDiariaRepository.acumular(idVendedor, dataVenda, total, quantidade) == 0) {
+                vendaDiariaRepository.inserir(idVendedor, dataVenda, total, quantidade);
+            }
+        }
+
+        if (quantidade < 0) {
+            vendaDiariaRepository.removerSeVazia(idVendedor, dataVenda);
+        }
+    }
+
+    @Transactional
+    public void registrar(Venda venda) {
+        acumular(venda.getVendedor().getId(), venda.getDataVenda(), venda.getValor(), 1);
+    }
+
+    @Transactional
+    public void registrarTodas(Collection<Venda> vendas) {
+        Map<VendaDiariaId, VendaDiaria> porDia = new TreeMap<>(Comparator
+                .comparing(VendaDiariaId::getIdVendedor)
+                .thenComparing(VendaDiariaId::getDataVenda));
+
+        for (Venda venda : vendas) {
+            VendaDiariaId id = new VendaDiariaId(venda.getVendedor().getId(), venda.getDataVenda());
+            porDia.merge(id, new VendaDiaria(id, venda.getValor(), 1L), (atual, nova) -> new VendaDiaria(
+                    id,
+                    atual.getTotal().add(nova.getTotal()),
+                    atual.getQuantidade() + nova.getQuantidade()
+            ));
+        }
+
+        porDia.values().forEach(dia ->
+                acumular(dia.getId().getIdVendedor(), dia.getId().getDataVenda(), dia.getTotal(), dia.getQuantidade()));
+    }
+
+    @Transactional
+    public void remover(Venda venda) {
+        acumular(venda.getVendedor().getId(), venda.getDataVenda(), venda.getValor().negate(), -1);
+    }
+
+    @Transactional
+    public void descontar(Collection<VendaDiariaProjection> dias) {
+        dias.forEach(dia ->
+                acumular(dia.getIdVendedor(), dia.getDataVenda(), dia.getTotal().negate(), -dia.getQuantidade()));
+    }
+
+    @Transactional
+    public void mover(Venda anterior, Venda atual) {
+        boolean mesmoDia = anterior.getVendedor().getId().equals(atual.getVendedor().getId())
+                && anterior.getDataVenda().equals(atual.getDataVenda());
+
+        if (mesmoDia) {
+            acumular(atual.getVendedor().getId(), atual.getDataVenda(), atual.getValor().subtract(anterior.getValor()), 0);
+            return;
+        }
+
+        remover(anterior);
+        registrar(atual);
+    }
+
+    @Transactional(readOnly = true)
+    public ResumoVendasProjection resumir(Long idVendedor, LocalDate inicio, LocalDate fim) {
+        return vendaDiariaRepository.resumirPorVendedorEPeriodo(idVendedor, inicio, fim);
+    }
+
+    @Transactional(readOnly = true)
+    public List<VendaDiariaProjection> listarDias(Long idVendedor, LocalDate inicio, LocalDate fim) {
+        return vendaDiariaRepository.listarPorVendedorEPeriodo(idVendedor, inicio, fim);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RankingVendedorProjection> ranquear(LocalDate inicio, LocalDate fim, int limit) {
+        return vendaDiariaRepository.ranquearPorPeriodo(inicio, fim, Limit.of(limit));
+    }
+
+    /**
+     * Compara tb_venda_diaria com o agregado de tb_venda percorrendo os dois lados ordenados por
+     * (vendedor, dia) ao mesmo tempo, sem carregar a tabela de resumo em memória. As correções são
+     * feitas por comandos, então o contexto de persistência não acumula entidades durante a varredura.
+     */
+    @Transactional
+    public VerificacaoVendaDiariaResponse verificar(boolean corrigir) {
+        List<DivergenciaVendaDiariaResponse> divergencias = new ArrayList<>();
+        long diasVerificados = 0;
+        long totalDivergencias = 0;
+
+        try (Stream<VendaDiariaProjection> streamEsperadas = vendaRepository.resumirPorVendedorEDia();
+             Stream<VendaDiariaProjection> streamRegistradas = vendaDiariaRepository.listarOrdenadas()) {
+            Iterator<VendaDiariaProjection> esperadas = streamEsperadas.iterator();
+            Iterator<VendaDiariaProjection> registradas = streamRegistradas.iterator();
+            VendaDiariaProjection esperada = proxima(esperadas);
+            VendaDiariaProjection registrada = proxima(registradas);
+
+            while (esperada != null || registrada != null) {
+                int comparacao = esperada == null ? 1 : registrada == null ? -1 : ORDEM_DIAS.compare(esperada, registrada);
+
+                if (comparacao > 0) {
+                    totalDivergencias++;
+                    reportar(divergencias, registrada.getIdVendedor(), registrada.getDataVenda(),
+                            BigDecimal.ZERO, 0L, registrada);
+                    if (corrigir) {
+                        vendaDiariaRepository.remover(registrada.getIdVendedor(), registrada.getDataVenda());
+                    }
+                    registrada = proxima(registradas);
+                    continue;
+                }
+
+                VendaDiariaProjection correspondente = comparacao == 0 ? registrada : null;
+                diasVerificados++;
+
+                if (divergente(correspondente, esperada)) {
+                    totalDivergencias++;
+                    reportar(divergencias, esperada.getIdVendedor(), esperada.getDataVenda(),
+                            esperada.getTotal(), esperada.getQuantidade(), correspondente);
+                    if (corrigir) {
+                        corrigir(esperada, correspondente);
+                    }
+                }
+
+                esperada = proxima(esperadas);
+                if (correspondente != null) {
+                    registrada = proxima(registradas);
+                }
+            }
+        }
+
+        if (totalDivergencias > 0) {
+            log.warn("Verificação de tb_venda_diaria encontrou {} divergência(s) em {} dia(s). Corrigido: {}",
+                    totalDivergencias, diasVerificados, corrigir);
+        }
+
+        return new VerificacaoVendaDiariaResponse(diasVerificados, totalDivergencias, corrigir, divergencias);
+    }
+
+    private static VendaDiariaProjection proxima(Iterator<VendaDiariaProjection> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private void reportar(List<DivergenciaVendaDiariaResponse> divergencias, Long idVendedor, LocalDate dataVenda,
+                          BigDecimal totalEsperado, Long quantidadeEsperada, VendaDiariaProjection registrada) {
+        if (divergencias.size() < LIMITE_DIVERGENCIAS_REPORTADAS) {
+            divergencias.add(new DivergenciaVendaDiariaResponse(
+                    idVendedor,
+                    dataVenda,
+                    totalEsperado,
+                    quantidadeEsperada,
+                    registrada == null ? null : registrada.getTotal(),
+                    registrada == null ? null : registrada.getQuantidade()
+            ));
+        }
+    }
+
+    private void corrigir(VendaDiariaProjection esperada, VendaDiariaProjection registrada) {
+        if (registrada == null) {
+            vendaDiariaRepository.inserir(esperada.getIdVendedor(), esperada.getDataVenda(),
+                    esperada.getTotal(), esperada.getQuantidade());
+        } else {
+            vendaDiariaRepository.definir(esperada.getIdVendedor(), esperada.getDataVenda(),
+                    esperada.getTotal(), esperada.getQuantidade());
+        }
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirSeVazia() {
+        if (reconstruirNaInicializacao && vendaDiariaRepository.count() == 0 && vendaRepository.count() > 0) {
+            log.info("tb_venda_diaria vazia com vendas existentes; reconstruindo a partir de tb_venda.");
+            verificar(true);
+        }
+    }
+}
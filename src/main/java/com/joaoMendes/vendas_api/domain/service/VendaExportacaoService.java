@@ -0,0 +1,102 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joaoMendes.vendas_api.domain.repository.VendaExportacaoRepository;
+import com.joaoMendes.vendas_api.dto.request.FormatoExportacao;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static com.joaoMendes.vendas_api.utils.CsvUtils.escreverCampo;
+
+@Service
+@Timed("vendas.service")
+public class VendaExportacaoService {
+
+    private static final String CABECALHO_CSV = "id,dataVenda,valor,idVendedor,nomeVendedor\n";
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    @Autowired
+    private VendaExportacaoRepository vendaExportacaoRepository;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void exportar(FormatoExportacao formato, LocalDate inicio, LocalDate fim, OutputStream saida) throws IOException {
+        vendaService.validarPeriodo(inicio, fim);
+
+        switch (formato) {
+            case CSV -> exportarCsv(inicio, fim, saida);
+            case NDJSON -> exportarNdjson(inicio, fim, saida);
+        }
+    }
+
+    private void exportarCsv(LocalDate inicio, LocalDate fim, OutputStream saida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(StreamUtils.nonClosing(saida), StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        writer.write(CABECALHO_CSV);
+
+        vendaExportacaoRepository.percorrer(inicio, fim, rs -> {
+            try {
+                writer.write(Long.toString(rs.getLong(1)));
+                writer.write(',');
+                writer.write(FORMATO_DATA.format(rs.getObject(2, LocalDate.class)));
+                writer.write(',');
+                writer.write(rs.getBigDecimal(3).toPlainString());
+                writer.write(',');
+                writer.write(Long.toString(rs.getLong(4)));
+                writer.write(',');
+                escreverCampo(writer, rs.getString(5));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        writer.flush();
+    }
+
+    private void exportarNdjson(LocalDate inicio, LocalDate fim, OutputStream saida) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(StreamUtils.nonClosing(saida))) {
+            generator.setRootValueSeparator(null);
+
+            vendaExportacaoRepository.percorrer(inicio, fim, rs -> {
+                try {
+                    escreverLinhaJson(generator, rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void escreverLinhaJson(JsonGenerator generator, ResultSet rs) throws IOException, SQLException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", rs.getLong(1));
+        generator.writeStringField("dataVenda", FORMATO_DATA.format(rs.getObject(2, LocalDate.class)));
+        generator.writeNumberField("valor", rs.getBigDecimal(3));
+        generator.writeNumberField("idVendedor", rs.getLong(4));
+        generator.writeStringField("nomeVendedor", rs.getString(5));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
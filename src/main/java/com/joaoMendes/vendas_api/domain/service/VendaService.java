@@ -1,34 +1,107 @@
 package com.joaoMendes.vendas_api.domain.service;
 
+import com.joaoMendes.vendas_api.domain.cache.ChaveIdempotenciaCache;
+import com.joaoMendes.vendas_api.domain.cache.EscritasRecentesCache;
+import com.joaoMendes.vendas_api.domain.cache.MediaPorPeriodoCache;
+import com.joaoMendes.vendas_api.domain.cache.RankingVendedoresCache;
+import com.joaoMendes.vendas_api.domain.cache.VendedorCache;
+import com.joaoMendes.vendas_api.domain.entities.ChaveIdempotencia;
 import com.joaoMendes.vendas_api.domain.entities.Venda;
 import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaEmUsoException;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaReutilizadaException;
 import com.joaoMendes.vendas_api.domain.exception.PeriodoInvalidoException;
 import com.joaoMendes.vendas_api.domain.exception.VendaNotFoundException;
 import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.VersaoConflitanteException;
+import com.joaoMendes.vendas_api.domain.repository.ChaveIdempotenciaRepository;
 import com.joaoMendes.vendas_api.domain.repository.VendaRepository;
 import com.joaoMendes.vendas_api.domain.repository.VendedorRepository;
+import com.joaoMendes.vendas_api.domain.repository.projection.RankingVendedorProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.ResumoVendasProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.VendaDiariaProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.VersaoVendaProjection;
+import com.joaoMendes.vendas_api.dto.request.Granularidade;
 import com.joaoMendes.vendas_api.dto.request.MediaPorPeriodoRequest;
 import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.ExclusaoVendasResponse;
 import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import com.joaoMendes.vendas_api.dto.response.PontoSerieVendasResponse;
+import com.joaoMendes.vendas_api.dto.response.SerieVendasResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteErroResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaPaginaResponse;
 import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import com.joaoMendes.vendas_api.dto.response.VerificacaoVendaDiariaResponse;
 import com.joaoMendes.vendas_api.mapper.VendaMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.joaoMendes.vendas_api.utils.ETagUtils.corresponde;
+import static com.joaoMendes.vendas_api.utils.ETagUtils.versaoVenda;
 
 @Service
+@Timed("vendas.service")
 public class VendaService {
+
+    public static final int LIMITE_MAXIMO_PAGINA = 1000;
+    public static final int TAMANHO_MAXIMO_LOTE = 10000;
+    public static final int LIMITE_PONTOS_SERIE = 1000;
+    public static final int TAMANHO_MAXIMO_EXCLUSAO = 1000;
+
     @Autowired
     private VendaRepository vendaRepository;
     @Autowired
     private VendedorRepository vendedorRepository;
     @Autowired
+    private VendedorCache vendedorCache;
+    @Autowired
+    private RankingVendedoresCache rankingVendedoresCache;
+    @Autowired
+    private VendaDiariaService vendaDiariaService;
+    @Autowired
+    private VersaoVendasService versaoVendasService;
+    @Autowired
+    private EscritasRecentesCache escritasRecentesCache;
+    @Autowired
+    private MediaPorPeriodoCache mediaPorPeriodoCache;
+    @Autowired
+    private ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+    @Autowired
+    private ChaveIdempotenciaCache chaveIdempotenciaCache;
+    @Autowired
     private VendaMapper mapper;
+    @Autowired
+    private Validator validator;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     private Venda findVendaOrThrow(Long id) {
         return vendaRepository.findById(id)
@@ -36,24 +109,59 @@ public class VendaService {
     }
 
     private Vendedor findVendedorOrThrow(Long id) {
-        return vendedorRepository.findById(id)
+        return vendedorCache.buscarPorId(id, chave ->
+                        escritasRecentesCache.lerAposEscrita(chave, () -> vendedorRepository.findById(chave)))
                 .orElseThrow(() -> new VendedorNotFoundException(id));
     }
 
-    private void validarPeriodo(LocalDate inicio, LocalDate fim) {
-        if (fim.isBefore(inicio)) {
-            throw new PeriodoInvalidoException(inicio, fim);
+    private String gerarETag(Venda venda) {
+        return versaoVenda(venda.getVersao(), venda.getVendedor().getVersao());
+    }
+
+    private void validarVersao(Venda venda, String versaoEsperada) {
+        if (versaoEsperada != null && !corresponde(versaoEsperada, gerarETag(venda))) {
+            throw new VersaoConflitanteException("venda", venda.getId());
+        }
+    }
+
+    private long excluirEDescontar(List<VendaDiariaProjection> dias, IntSupplier exclusao) {
+        long esperadas = dias.stream().mapToLong(VendaDiariaProjection::getQuantidade).sum();
+        if (esperadas == 0) {
+            return 0;
+        }
+
+        if (exclusao.getAsInt() != esperadas) {
+            throw new ObjectOptimisticLockingFailureException(
+                    "As vendas foram alteradas por outra requisição durante a remoção.", null);
         }
+
+        return descontarExcluidas(dias);
+    }
+
+    private long descontarExcluidas(List<VendaDiariaProjection> excluidas) {
+        vendaDiariaService.descontar(excluidas);
+        Set<Long> idsVendedores = excluidas.stream()
+                .map(VendaDiariaProjection::getIdVendedor)
+                .collect(Collectors.toSet());
+        escritasRecentesCache.registrarTodos(idsVendedores);
+        mediaPorPeriodoCache.invalidarTodos(idsVendedores);
+
+        return excluidas.stream()
+                .mapToLong(VendaDiariaProjection::getQuantidade)
+                .sum();
     }
 
-    private List<Venda> buscarVendas(Vendedor vendedor, LocalDate inicio, LocalDate fim) {
-        return vendaRepository.findByVendedorAndDataVendaBetween(vendedor, inicio, fim);
+    public void validarPeriodo(LocalDate inicio, LocalDate fim) {
+        if ((inicio == null) != (fim == null)) {
+            throw new IllegalArgumentException("Informe dataInicio e dataFim juntas ou nenhuma delas.");
+        }
+        if (inicio != null && fim.isBefore(inicio)) {
+            throw new PeriodoInvalidoException(inicio, fim);
+        }
     }
 
-    private BigDecimal calcularTotalVendas(List<Venda> vendas) {
-        return vendas.stream()
-                .map(Venda::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private ResumoVendasProjection buscarResumo(Vendedor vendedor, LocalDate inicio, LocalDate fim) {
+        return vendaDiariaService.resumir(vendedor.getId(), inicio, fim);
     }
 
     private long calcularDias(LocalDate inicio, LocalDate fim) {
@@ -64,47 +172,339 @@ public class VendaService {
         return totalVendido.divide(BigDecimal.valueOf(dias), 2, RoundingMode.HALF_UP);
     }
 
+    private List<MediaPorPeriodoResponse> calcularRanking(LocalDate inicio, LocalDate fim, int limit) {
+        long dias = calcularDias(inicio, fim);
+
+        return vendaDiariaService.ranquear(inicio, fim, limit).stream()
+                .map(linha -> toMediaPorPeriodoResponse(linha, inicio, fim, dias))
+                .toList();
+    }
+
+    private MediaPorPeriodoResponse toMediaPorPeriodoResponse(RankingVendedorProjection linha,
+                                                              LocalDate inicio, LocalDate fim, long dias) {
+        return new MediaPorPeriodoResponse(
+                linha.getIdVendedor(),
+                linha.getNomeVendedor(),
+                linha.getTotalVendido(),
+                calcularMediaPorPeriodo(linha.getTotalVendido(), dias),
+                inicio,
+                fim,
+                dias,
+                linha.getQuantidadeVendas()
+        );
+    }
+
+    private void validarPontosSerie(LocalDate inicio, LocalDate fim, Granularidade granularidade) {
+        if (granularidade.contarIntervalos(inicio, fim) > LIMITE_PONTOS_SERIE) {
+            throw new IllegalArgumentException("A série pode ter no máximo " + LIMITE_PONTOS_SERIE
+                    + " pontos. Use um período menor ou uma granularidade maior.");
+        }
+    }
+
+    private List<PontoSerieVendasResponse> montarSerie(List<VendaDiariaProjection> dias, LocalDate inicio,
+                                                       LocalDate fim, Granularidade granularidade) {
+        List<PontoSerieVendasResponse> pontos = new ArrayList<>((int) granularidade.contarIntervalos(inicio, fim));
+        int proximoDia = 0;
+
+        for (LocalDate intervalo = granularidade.inicioDoIntervalo(inicio);
+             !intervalo.isAfter(fim);
+             intervalo = granularidade.proximoIntervalo(intervalo)) {
+
+            LocalDate fimIntervalo = granularidade.proximoIntervalo(intervalo).minusDays(1);
+            LocalDate inicioPonto = intervalo.isBefore(inicio) ? inicio : intervalo;
+            LocalDate fimPonto = fimIntervalo.isAfter(fim) ? fim : fimIntervalo;
+
+            BigDecimal totalVendido = BigDecimal.ZERO;
+            long quantidadeVendas = 0;
+            while (proximoDia < dias.size() && !dias.get(proximoDia).getDataVenda().isAfter(fimPonto)) {
+                VendaDiariaProjection dia = dias.get(proximoDia++);
+                totalVendido = totalVendido.add(dia.getTotal());
+                quantidadeVendas += dia.getQuantidade();
+            }
+
+            long diasPonto = calcularDias(inicioPonto, fimPonto);
+            pontos.add(new PontoSerieVendasResponse(
+                    granularidade.rotular(intervalo),
+                    inicioPonto,
+                    fimPonto,
+                    diasPonto,
+                    totalVendido,
+                    calcularMediaPorPeriodo(totalVendido, diasPonto),
+                    quantidadeVendas
+            ));
+        }
+
+        return pontos;
+    }
+
+    private void validarLimite(int limit) {
+        if (limit < 1 || limit > LIMITE_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + LIMITE_MAXIMO_PAGINA + ".");
+        }
+    }
+
+    private String codificarCursor(Long id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long decodificarCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido.");
+        }
+    }
+
+    private Map<Long, Vendedor> buscarVendedores(List<VendaRequest> requests) {
+        Set<Long> ids = requests.stream()
+                .filter(Objects::nonNull)
+                .map(VendaRequest::getIdVendedor)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return vendedorRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Vendedor::getId, Function.identity()));
+    }
+
+    private List<String> validarItemLote(VendaRequest request, Map<Long, Vendedor> vendedores) {
+        if (request == null) {
+            return List.of("Item vazio ou mal formatado.");
+        }
+
+        List<String> erros = validator.validate(request)
+                .stream()
+                .map(violacao -> violacao.getPropertyPath() + ": " + violacao.getMessage())
+                .sorted()
+                .toList();
+
+        if (erros.isEmpty() && !vendedores.containsKey(request.getIdVendedor())) {
+            return List.of(new VendedorNotFoundException(request.getIdVendedor()).getMessage());
+        }
+
+        return erros;
+    }
+
+    @Transactional
     public VendaResponse create(VendaRequest request){
         Vendedor vendedor = findVendedorOrThrow(request.getIdVendedor());
 
-        Venda venda = mapper.toEntity(request, vendedor);
-        return mapper.toResponse(vendaRepository.save(venda));
+        Venda venda = vendaRepository.save(mapper.toEntity(request, vendedor));
+        vendaDiariaService.registrar(venda);
+        escritasRecentesCache.registrar(vendedor.getId());
+        escritasRecentesCache.registrarVenda(venda.getId());
+        mediaPorPeriodoCache.invalidar(vendedor.getId());
+
+        return mapper.toResponse(venda);
+    }
+
+    /**
+     * O H2 nomeia a chave primária como PRIMARY_KEY_xx, sem a tabela, então a violação é reconhecida pelo
+     * comando que falhou: a única restrição única de tb_chave_idempotencia é a própria chave.
+     */
+    private boolean chaveJaGravada(ConstraintViolationException e) {
+        return e.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                && e.getSQL() != null
+                && e.getSQL().toLowerCase(Locale.ROOT).contains(ChaveIdempotencia.TABELA);
+    }
+
+    @Transactional
+    public RespostaIdempotente createIdempotente(String chave, String hashRequisicao, LocalDateTime expiraEm,
+                                                 VendaRequest request){
+        LocalDateTime agora = LocalDateTime.now();
+        ChaveIdempotencia existente = chaveIdempotenciaRepository.findById(chave).orElse(null);
+
+        if (existente != null && !existente.expirada(agora)) {
+            if (!existente.getHashRequisicao().equals(hashRequisicao)) {
+                throw new ChaveIdempotenciaReutilizadaException(chave);
+            }
+            chaveIdempotenciaCache.registrar(existente);
+            return new RespostaIdempotente(mapper.toResponseIdempotente(existente), true);
+        }
+
+        ChaveIdempotencia registro = new ChaveIdempotencia(chave, hashRequisicao, agora, expiraEm);
+        try {
+            if (existente != null) {
+                chaveIdempotenciaRepository.delete(existente);
+                entityManager.flush();
+            }
+            entityManager.persist(registro);
+            entityManager.flush();
+        } catch (ConstraintViolationException e) {
+            if (!chaveJaGravada(e)) {
+                throw e;
+            }
+            throw new ChaveIdempotenciaEmUsoException(chave);
+        }
+
+        VendaResponse resposta = create(request);
+        registro.registrarResposta(resposta);
+        chaveIdempotenciaCache.registrarAposCommit(registro);
+
+        return new RespostaIdempotente(resposta, false);
     }
 
+    @Transactional
+    public VendaLoteResponse createEmLote(List<VendaRequest> requests){
+        if (requests.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new IllegalArgumentException("O lote pode ter no máximo " + TAMANHO_MAXIMO_LOTE + " vendas.");
+        }
+
+        Map<Long, Vendedor> vendedores = buscarVendedores(requests);
+        List<VendaLoteErroResponse> erros = new ArrayList<>();
+        List<Venda> vendas = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            VendaRequest request = requests.get(i);
+            List<String> errosItem = validarItemLote(request, vendedores);
+
+            if (!errosItem.isEmpty()) {
+                erros.add(new VendaLoteErroResponse(i, errosItem));
+                continue;
+            }
+
+            vendas.add(mapper.toEntity(request, vendedores.get(request.getIdVendedor())));
+        }
+
+        vendaRepository.saveAll(vendas);
+        vendaRepository.flush();
+        vendas.forEach(entityManager::detach);
+        vendaDiariaService.registrarTodas(vendas);
+        escritasRecentesCache.registrarTodos(vendedores.keySet());
+        mediaPorPeriodoCache.invalidarTodos(vendedores.keySet());
+
+        return new VendaLoteResponse(requests.size(), vendas.size(), erros);
+    }
+
+    @Transactional
     public void delete(Long id){
-        Venda venda = findVendaOrThrow(id);
+        List<Long> ids = List.of(id);
+        if (excluirEDescontar(vendaRepository.resumirPorIds(ids), () -> vendaRepository.excluirPorIds(ids)) == 0) {
+            throw new VendaNotFoundException(id);
+        }
+        escritasRecentesCache.registrarVenda(id);
+    }
 
-        vendaRepository.delete(venda);
+    @Transactional
+    public ExclusaoVendasResponse deleteEmLote(List<Long> ids){
+        Set<Long> idsDistintos = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (idsDistintos.isEmpty() || idsDistintos.size() > TAMANHO_MAXIMO_EXCLUSAO) {
+            throw new IllegalArgumentException("Informe entre 1 e " + TAMANHO_MAXIMO_EXCLUSAO + " ids.");
+        }
+
+        long excluidas = excluirEDescontar(vendaRepository.resumirPorIds(idsDistintos),
+                () -> vendaRepository.excluirPorIds(idsDistintos));
+        escritasRecentesCache.registrarVendas(idsDistintos);
+
+        return new ExclusaoVendasResponse(excluidas);
+    }
+
+    @Transactional
+    public ExclusaoVendasResponse deletePorPeriodo(Long idVendedor, MediaPorPeriodoRequest periodo){
+        Vendedor vendedor = findVendedorOrThrow(idVendedor);
+
+        LocalDate inicio = periodo.getDataInicio();
+        LocalDate fim = periodo.getDataFim();
+
+        validarPeriodo(inicio, fim);
+
+        List<VendaDiariaProjection> dias = vendaRepository.resumirPorVendedorEPeriodo(vendedor.getId(), inicio, fim);
+        return new ExclusaoVendasResponse(excluirEDescontar(dias,
+                () -> vendaRepository.excluirPorVendedorEPeriodo(vendedor.getId(), inicio, fim)));
     }
 
     public VendaResponse getById(Long id){
-        Venda venda = findVendaOrThrow(id);
+        Venda venda = escritasRecentesCache.lerVendaAposEscrita(id, () -> findVendaOrThrow(id));
         return mapper.toResponse(venda);
     }
 
+    public String getETag(Long id){
+        VersaoVendaProjection versao = escritasRecentesCache.lerVendaAposEscrita(id, () -> vendaRepository.buscarVersao(id))
+                .orElseThrow(() -> new VendaNotFoundException(id));
+
+        return versaoVenda(versao.getVersaoVenda(), versao.getVersaoVendedor());
+    }
+
+    public String getETagColecao(){
+        return versaoVendasService.getVersao();
+    }
+
     public List<VendaResponse> getVendasPorVendedorById(Long id){
-        Vendedor vendedor = findVendedorOrThrow(id);
-        List<Venda> vendas = vendaRepository.findByVendedor(vendedor);
-        return vendas.stream()
-                .map(mapper::toResponse)
-                .toList();
+        return escritasRecentesCache.lerAposEscrita(id, () -> {
+            Vendedor vendedor = findVendedorOrThrow(id);
+            List<Venda> vendas = vendaRepository.findByVendedor(vendedor);
+            return vendas.stream()
+                    .map(mapper::toResponse)
+                    .toList();
+        });
     }
 
     public List<VendaResponse> getAll(){
-        return mapper.toResponseList(vendaRepository.findAll());
+        return vendaRepository.listarResponses();
+    }
+
+    public VendaPaginaResponse getPagina(String after, int limit){
+        validarLimite(limit);
+        Long ultimoId = decodificarCursor(after);
+
+        List<Venda> vendas = vendaRepository.findByIdGreaterThanOrderByIdAsc(ultimoId, Limit.of(limit + 1));
+
+        boolean temProxima = vendas.size() > limit;
+        List<Venda> pagina = temProxima ? vendas.subList(0, limit) : vendas;
+        String proximoCursor = temProxima ? codificarCursor(pagina.get(pagina.size() - 1).getId()) : null;
+
+        return new VendaPaginaResponse(mapper.toResponseList(pagina), proximoCursor);
     }
 
-    public VendaResponse update(Long id, VendaRequest request){
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<VendaResponse> consumer){
+        try (Stream<Venda> vendas = vendaRepository.streamAll()) {
+            vendas.forEach(venda -> {
+                consumer.accept(mapper.toResponse(venda));
+                entityManager.detach(venda);
+            });
+        }
+    }
+
+    @Transactional
+    public VendaResponse update(Long id, VendaRequest request, String versaoEsperada){
         Venda vendaExistente = findVendaOrThrow(id);
+        validarVersao(vendaExistente, versaoEsperada);
+        Venda vendaAnterior = new Venda(null, vendaExistente.getDataVenda(), vendaExistente.getValor(), vendaExistente.getVendedor());
 
         Vendedor vendedor = findVendedorOrThrow(request.getIdVendedor());
 
         vendaExistente.updateFrom(mapper.toEntity(request, vendedor)) ;
 
-        return mapper.toResponse(vendaRepository.save(vendaExistente));
+        Venda vendaAtualizada = vendaRepository.save(vendaExistente);
+        vendaDiariaService.mover(vendaAnterior, vendaAtualizada);
+        escritasRecentesCache.registrar(vendaAnterior.getVendedor().getId());
+        escritasRecentesCache.registrar(vendedor.getId());
+        escritasRecentesCache.registrarVenda(id);
+        mediaPorPeriodoCache.invalidar(vendaAnterior.getVendedor().getId());
+        mediaPorPeriodoCache.invalidar(vendedor.getId());
+
+        return mapper.toResponse(vendaAtualizada);
+    }
+
+    public VerificacaoVendaDiariaResponse verificarVendaDiaria(boolean corrigir){
+        return vendaDiariaService.verificar(corrigir);
     }
 
     public MediaPorPeriodoResponse calcularMediaPorPeriodo(Long idVendedor, MediaPorPeriodoRequest periodo) {
+        return mediaPorPeriodoCache.buscar(idVendedor, periodo.getDataInicio(), periodo.getDataFim(),
+                () -> escritasRecentesCache.lerAposEscrita(idVendedor, () -> calcularMedia(idVendedor, periodo)));
+    }
+
+    private MediaPorPeriodoResponse calcularMedia(Long idVendedor, MediaPorPeriodoRequest periodo) {
         Vendedor vendedor = findVendedorOrThrow(idVendedor);
 
         LocalDate inicio = periodo.getDataInicio();
@@ -112,10 +512,10 @@ public class VendaService {
 
         validarPeriodo(inicio, fim);
 
-        List<Venda> vendas = buscarVendas(vendedor, inicio, fim);
+        ResumoVendasProjection resumo = buscarResumo(vendedor, inicio, fim);
 
-        BigDecimal totalVendido = calcularTotalVendas(vendas);
-        long quantidadeVendas = vendas.size();
+        BigDecimal totalVendido = resumo.getTotalVendido();
+        long quantidadeVendas = resumo.getQuantidadeVendas();
         long dias = calcularDias(inicio, fim);
         BigDecimal mediaDiaria = calcularMediaPorPeriodo(totalVendido, dias);
 
@@ -132,4 +532,38 @@ public class VendaService {
         );
     }
 
+    public SerieVendasResponse getSerie(Long idVendedor, MediaPorPeriodoRequest periodo, Granularidade granularidade) {
+        return escritasRecentesCache.lerAposEscrita(idVendedor, () -> calcularSerie(idVendedor, periodo, granularidade));
+    }
+
+    private SerieVendasResponse calcularSerie(Long idVendedor, MediaPorPeriodoRequest periodo, Granularidade granularidade) {
+        Vendedor vendedor = findVendedorOrThrow(idVendedor);
+
+        LocalDate inicio = periodo.getDataInicio();
+        LocalDate fim = periodo.getDataFim();
+
+        validarPeriodo(inicio, fim);
+        validarPontosSerie(inicio, fim, granularidade);
+
+        List<VendaDiariaProjection> dias = vendaDiariaService.listarDias(vendedor.getId(), inicio, fim);
+
+        return new SerieVendasResponse(
+                vendedor.getId(),
+                vendedor.getNome(),
+                granularidade,
+                inicio,
+                fim,
+                montarSerie(dias, inicio, fim, granularidade)
+        );
+    }
+
+    public List<MediaPorPeriodoResponse> getRanking(MediaPorPeriodoRequest periodo, int limit) {
+        LocalDate inicio = periodo.getDataInicio();
+        LocalDate fim = periodo.getDataFim();
+
+        validarPeriodo(inicio, fim);
+        validarLimite(limit);
+
+        return rankingVendedoresCache.buscar(inicio, fim, limit, () -> calcularRanking(inicio, fim, limit));
+    }
 }
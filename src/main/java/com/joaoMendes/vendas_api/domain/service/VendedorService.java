@@ -1,45 +1,105 @@
 package com.joaoMendes.vendas_api.domain.service;
 
+import com.joaoMendes.vendas_api.config.RoteamentoDataSource;
+import com.joaoMendes.vendas_api.domain.cache.EscritasRecentesCache;
+import com.joaoMendes.vendas_api.domain.cache.MediaPorPeriodoCache;
+import com.joaoMendes.vendas_api.domain.cache.VendedorCache;
 import com.joaoMendes.vendas_api.domain.entities.Vendedor;
 import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.VersaoConflitanteException;
 import com.joaoMendes.vendas_api.domain.repository.VendedorRepository;
+import com.joaoMendes.vendas_api.domain.repository.projection.VersaoVendedoresProjection;
 import com.joaoMendes.vendas_api.dto.request.VendedorRequest;
+import com.joaoMendes.vendas_api.dto.response.CacheEstatisticasResponse;
+import com.joaoMendes.vendas_api.dto.response.PaginaResponse;
 import com.joaoMendes.vendas_api.dto.response.VendedorResponse;
 import com.joaoMendes.vendas_api.mapper.VendedorMapper;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+import static com.joaoMendes.vendas_api.utils.ETagUtils.corresponde;
 import static com.joaoMendes.vendas_api.utils.StringUtils.*;
 
 @Service
+@Timed("vendas.service")
 public class VendedorService {
 
+    public static final int TAMANHO_MAXIMO_PAGINA = 100;
+
+    private static final Map<String, String> ORDENACOES = Map.of(
+            "nome", "nomeNormalizado",
+            "id", "id"
+    );
+
     @Autowired
     private VendedorRepository vendedorRepository;
 
     @Autowired
     private VendedorMapper vendedorMapper;
 
-    private void validateNomeDuplicado(String nome, Long idAtual) {
-        String nomeNormalizado = normalizeString(nome);
-        Optional<Vendedor> existente = vendedorRepository.findByNomeIgnoreCase(nomeNormalizado);
+    @Autowired
+    private VendedorCache vendedorCache;
+
+    @Autowired
+    private EscritasRecentesCache escritasRecentesCache;
+
+    @Autowired
+    private MediaPorPeriodoCache mediaPorPeriodoCache;
+
+    @Autowired
+    private VersaoVendasService versaoVendasService;
+
+    private Vendedor findVendedorOrThrow(Long id) {
+        return vendedorCache.buscarPorId(id, chave ->
+                        escritasRecentesCache.lerAposEscrita(chave, () -> vendedorRepository.findById(chave)))
+                .orElseThrow(() -> new VendedorNotFoundException(id));
+    }
 
-        if (existente.isPresent() && !existente.get().getId().equals(idAtual)) {
-            throw new IllegalArgumentException("Já existe um vendedor com esse nome");
+    private PageRequest criarPageRequest(int pagina, int tamanho, String ordenacao, String direcao) {
+        if (pagina < 0) {
+            throw new IllegalArgumentException("A página deve ser maior ou igual a 0.");
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("O tamanho deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA + ".");
         }
+        String propriedade = ORDENACOES.get(ordenacao);
+        if (propriedade == null) {
+            throw new IllegalArgumentException("Ordenação inválida. Valores aceitos: id, nome.");
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(direcao)
+                .orElseThrow(() -> new IllegalArgumentException("Direção inválida. Valores aceitos: asc, desc."));
+
+        Sort sort = Sort.by(direction, propriedade);
+        if (!propriedade.equals("id")) {
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+
+        return PageRequest.of(pagina, tamanho, sort);
     }
 
-    private Vendedor findVendedorOrThrow(Long id) {
-        return vendedorRepository.findById(id)
+    private Vendedor findVendedorParaEscritaOrThrow(Long id) {
+        return RoteamentoDataSource.noPrimario(() -> vendedorRepository.findById(id))
                 .orElseThrow(() -> new VendedorNotFoundException(id));
     }
 
+    private void validarVersao(Vendedor vendedor, String versaoEsperada) {
+        if (versaoEsperada != null && !corresponde(versaoEsperada, String.valueOf(vendedor.getVersao()))) {
+            throw new VersaoConflitanteException("vendedor", vendedor.getId());
+        }
+    }
+
     public VendedorResponse create(VendedorRequest request){
         request.setNome(cleanStringForSave(request.getNome()));
-        validateNomeDuplicado(request.getNome(), null);
 
         Vendedor vendedor = vendedorMapper.toEntity(request);
 
@@ -47,9 +107,13 @@ public class VendedorService {
     }
 
     public void delete(Long id){
-        Vendedor vendedor = findVendedorOrThrow(id);
+        if (vendedorRepository.excluirPorId(id) == 0) {
+            throw new VendedorNotFoundException(id);
+        }
 
-        vendedorRepository.delete(vendedor);
+        vendedorCache.invalidar(id);
+        escritasRecentesCache.registrar(id);
+        mediaPorPeriodoCache.invalidar(id);
     }
 
     public VendedorResponse getById(Long id){
@@ -58,17 +122,61 @@ public class VendedorService {
         return vendedorMapper.toResponse(vendedor);
     }
 
+    public String getETag(Long id){
+        return String.valueOf(findVendedorOrThrow(id).getVersao());
+    }
+
+    public String getETagColecao(){
+        VersaoVendedoresProjection versoes = vendedorRepository.resumirVersoes();
+
+        return versoes.getQuantidade() + "-" + versoes.getMaiorId() + "-" + versoes.getSomaVersoes();
+    }
+
     public List<VendedorResponse> getAll(){
         return vendedorMapper.toResponseList(vendedorRepository.findAll());
     }
 
-    public VendedorResponse update(Long id, VendedorRequest request){
-        Vendedor vendedorExistente = findVendedorOrThrow(id);
+    public PaginaResponse<VendedorResponse> getPagina(String prefixo, int pagina, int tamanho, String ordenacao, String direcao){
+        PageRequest pageRequest = criarPageRequest(pagina, tamanho, ordenacao, direcao);
+        String prefixoNormalizado = prefixo == null ? "" : cleanAndNormalize(prefixo);
+
+        Page<Vendedor> vendedores = prefixoNormalizado.isEmpty()
+                ? vendedorRepository.findAll(pageRequest)
+                : vendedorRepository.findByNomeNormalizadoStartingWith(prefixoNormalizado, pageRequest);
+
+        return new PaginaResponse<>(
+                vendedorMapper.toResponseList(vendedores.getContent()),
+                vendedores.getNumber(),
+                vendedores.getSize(),
+                vendedores.getTotalElements(),
+                vendedores.getTotalPages()
+        );
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void normalizarNomesPendentes(){
+        vendedorRepository.findByNomeNormalizadoIsNull()
+                .forEach(Vendedor::normalizarNome);
+    }
+
+    public VendedorResponse update(Long id, VendedorRequest request, String versaoEsperada){
+        Vendedor vendedorExistente = findVendedorParaEscritaOrThrow(id);
+        validarVersao(vendedorExistente, versaoEsperada);
         request.setNome(cleanStringForSave(request.getNome()));
-        validateNomeDuplicado(request.getNome(), id);
 
         vendedorExistente.updateFrom(vendedorMapper.toEntity(request)) ;
 
-        return vendedorMapper.toResponse(vendedorRepository.save(vendedorExistente));
+        Vendedor vendedorAtualizado = vendedorRepository.save(vendedorExistente);
+        versaoVendasService.registrarEscrita();
+        vendedorCache.invalidar(id);
+        escritasRecentesCache.registrar(id);
+        mediaPorPeriodoCache.invalidar(id);
+
+        return vendedorMapper.toResponse(vendedorAtualizado);
+    }
+
+    public List<CacheEstatisticasResponse> getEstatisticasCache(){
+        return vendedorCache.estatisticas();
     }
 }
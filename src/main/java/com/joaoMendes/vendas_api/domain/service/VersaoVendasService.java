@@ -0,0 +1,58 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class VersaoVendasService {
+
+    private final String inicio = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong versao = new AtomicLong();
+    private final long atrasoMaximoNanos;
+    private volatile long ultimaEscritaNanos;
+    private volatile boolean houveEscrita;
+
+    public VersaoVendasService(@Value("${vendas.datasource.replica.atraso-maximo:0s}") Duration atrasoMaximo) {
+        this.atrasoMaximoNanos = atrasoMaximo.toNanos();
+    }
+
+    private final class IncrementoAposCommit implements TransactionSynchronization {
+        @Override
+        public void afterCommit() {
+            incrementar();
+        }
+    }
+
+    private void incrementar() {
+        versao.incrementAndGet();
+        ultimaEscritaNanos = System.nanoTime();
+        houveEscrita = true;
+    }
+
+    private boolean dentroDoAtrasoDaReplica() {
+        return atrasoMaximoNanos > 0 && houveEscrita && System.nanoTime() - ultimaEscritaNanos < atrasoMaximoNanos;
+    }
+
+    public void registrarEscrita() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            incrementar();
+            return;
+        }
+
+        boolean registrada = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(IncrementoAposCommit.class::isInstance);
+        if (!registrada) {
+            TransactionSynchronizationManager.registerSynchronization(new IncrementoAposCommit());
+        }
+    }
+
+    public String getVersao() {
+        String atual = inicio + "-" + versao.get();
+        return dentroDoAtrasoDaReplica() ? atual + "-r" : atual;
+    }
+}
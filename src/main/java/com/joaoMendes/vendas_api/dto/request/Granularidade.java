@@ -0,0 +1,46 @@
+package com.joaoMendes.vendas_api.dto.request;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+public enum Granularidade {
+
+    DIA(ChronoUnit.DAYS),
+    SEMANA(ChronoUnit.WEEKS),
+    MES(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unidade;
+
+    Granularidade(ChronoUnit unidade) {
+        this.unidade = unidade;
+    }
+
+    public LocalDate inicioDoIntervalo(LocalDate data) {
+        return switch (this) {
+            case DIA -> data;
+            case SEMANA -> data.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MES -> data.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate proximoIntervalo(LocalDate inicioDoIntervalo) {
+        return inicioDoIntervalo.plus(1, unidade);
+    }
+
+    public long contarIntervalos(LocalDate inicio, LocalDate fim) {
+        return unidade.between(inicioDoIntervalo(inicio), inicioDoIntervalo(fim)) + 1;
+    }
+
+    public String rotular(LocalDate inicioDoIntervalo) {
+        return switch (this) {
+            case DIA -> inicioDoIntervalo.toString();
+            case SEMANA -> String.format("%d-W%02d",
+                    inicioDoIntervalo.get(IsoFields.WEEK_BASED_YEAR),
+                    inicioDoIntervalo.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+            case MES -> String.format("%d-%02d", inicioDoIntervalo.getYear(), inicioDoIntervalo.getMonthValue());
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+public record CacheEstatisticasResponse(String cache,
+                                        Long tamanho,
+                                        Long hits,
+                                        Long misses,
+                                        Long evictions) {
+}
@@ -0,0 +1,15 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DivergenciaVendaDiariaResponse(Long idVendedor,
+                                             @JsonFormat(pattern = "dd/MM/yyyy")
+                                             LocalDate dataVenda,
+                                             BigDecimal totalEsperado,
+                                             Long quantidadeEsperada,
+                                             BigDecimal totalRegistrado,
+                                             Long quantidadeRegistrada) {
+}
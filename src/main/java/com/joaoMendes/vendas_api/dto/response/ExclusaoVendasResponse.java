@@ -0,0 +1,4 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+public record ExclusaoVendasResponse(Long removidas) {
+}
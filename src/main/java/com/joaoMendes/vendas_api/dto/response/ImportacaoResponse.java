@@ -0,0 +1,21 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.joaoMendes.vendas_api.domain.entities.StatusImportacao;
+
+import java.time.LocalDateTime;
+
+public record ImportacaoResponse(Long id,
+                                 String nomeArquivo,
+                                 String hash,
+                                 StatusImportacao status,
+                                 Long totalLinhas,
+                                 Long linhasProcessadas,
+                                 Long inseridas,
+                                 Long rejeitadas,
+                                 String erro,
+                                 @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+                                 LocalDateTime criadaEm,
+                                 @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+                                 LocalDateTime atualizadaEm) {
+}
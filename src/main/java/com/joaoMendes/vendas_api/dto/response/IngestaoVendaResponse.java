@@ -0,0 +1,10 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+public record IngestaoVendaResponse(Long sequencia,
+                                    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+                                    LocalDateTime recebidaEm) {
+}
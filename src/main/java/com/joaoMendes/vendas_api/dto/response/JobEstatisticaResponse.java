@@ -0,0 +1,21 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record JobEstatisticaResponse(String id,
+                                     Long idVendedor,
+                                     @JsonFormat(pattern = "dd/MM/yyyy")
+                                     LocalDate dataInicio,
+                                     @JsonFormat(pattern = "dd/MM/yyyy")
+                                     LocalDate dataFim,
+                                     StatusJob status,
+                                     MediaPorPeriodoResponse resultado,
+                                     String erro,
+                                     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+                                     LocalDateTime criadoEm,
+                                     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+                                     LocalDateTime concluidoEm) {
+}
@@ -0,0 +1,10 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import java.util.List;
+
+public record PaginaResponse<T>(List<T> conteudo,
+                                Integer pagina,
+                                Integer tamanho,
+                                Long totalElementos,
+                                Integer totalPaginas) {
+}
@@ -0,0 +1,17 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PontoSerieVendasResponse(String rotulo,
+                                       @JsonFormat(pattern = "dd/MM/yyyy")
+                                       LocalDate dataInicio,
+                                       @JsonFormat(pattern = "dd/MM/yyyy")
+                                       LocalDate dataFim,
+                                       Long dias,
+                                       BigDecimal totalVendido,
+                                       BigDecimal mediaDiaria,
+                                       Long quantidadeVendas) {
+}
@@ -0,0 +1,7 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import java.util.List;
+
+public record RejeicaoImportacaoResponse(Long linha,
+                                         List<String> erros) {
+}
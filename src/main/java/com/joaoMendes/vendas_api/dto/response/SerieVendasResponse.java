@@ -0,0 +1,17 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.joaoMendes.vendas_api.dto.request.Granularidade;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record SerieVendasResponse(Long idVendedor,
+                                  String nomeVendedor,
+                                  Granularidade granularidade,
+                                  @JsonFormat(pattern = "dd/MM/yyyy")
+                                  LocalDate dataInicio,
+                                  @JsonFormat(pattern = "dd/MM/yyyy")
+                                  LocalDate dataFim,
+                                  List<PontoSerieVendasResponse> pontos) {
+}
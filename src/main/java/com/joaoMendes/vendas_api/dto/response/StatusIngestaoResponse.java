@@ -0,0 +1,7 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+public record StatusIngestaoResponse(Integer pendentes,
+                                     Integer capacidade,
+                                     Long ultimaSequenciaAceita,
+                                     Long ultimaSequenciaGravada) {
+}
@@ -0,0 +1,8 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+public enum StatusJob {
+    PENDENTE,
+    EXECUTANDO,
+    CONCLUIDO,
+    FALHA
+}
@@ -0,0 +1,8 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import java.util.List;
+
+public record VendaLoteResponse(Integer recebidas,
+                                Integer inseridas,
+                                List<VendaLoteErroResponse> erros) {
+}
@@ -0,0 +1,9 @@
+package com.joaoMendes.vendas_api.dto.response;
+
+import java.util.List;
+
+public record VerificacaoVendaDiariaResponse(Long diasVerificados,
+                                             Long totalDivergencias,
+                                             Boolean corrigido,
+                                             List<DivergenciaVendaDiariaResponse> divergencias) {
+}
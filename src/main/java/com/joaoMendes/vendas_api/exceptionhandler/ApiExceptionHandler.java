@@ -1,25 +1,48 @@
 package com.joaoMendes.vendas_api.exceptionhandler;
 
+import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaEmUsoException;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaReutilizadaException;
+import com.joaoMendes.vendas_api.domain.exception.ImportacaoNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.IngestaoSobrecarregadaException;
+import com.joaoMendes.vendas_api.domain.exception.JobNotFoundException;
 import com.joaoMendes.vendas_api.domain.exception.PeriodoInvalidoException;
 import com.joaoMendes.vendas_api.domain.exception.VendaNotFoundException;
 import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.VersaoConflitanteException;
+import io.micrometer.core.instrument.Metrics;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.sql.SQLTransientConnectionException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 @RestControllerAdvice
 public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private static final String METRICA_ERROS = "vendas.api.erros";
+
+    private void contarErro(Exception ex, HttpStatus status) {
+        Metrics.counter(METRICA_ERROS,
+                "excecao", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())
+        ).increment();
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         ApiErrorResponse body = new ApiErrorResponse(
@@ -27,6 +50,7 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
                 List.of("INVALID_ARGUMENT"),
                 LocalDateTime.now()
         );
+        contarErro(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
@@ -51,6 +75,7 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
                 LocalDateTime.now()
         );
 
+        contarErro(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
@@ -63,6 +88,7 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
                 LocalDateTime.now()
         );
 
+        contarErro(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
                 .body(body);
@@ -77,6 +103,37 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
                 LocalDateTime.now()
         );
 
+        contarErro(ex, HttpStatus.NOT_FOUND);
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(body);
+    }
+
+    @ExceptionHandler(ImportacaoNotFoundException.class)
+    public ResponseEntity<Object> handleImportacaoNotFound(ImportacaoNotFoundException ex) {
+
+        ApiErrorResponse body = new ApiErrorResponse(
+                ex.getMessage(),
+                List.of(HttpStatus.NOT_FOUND.name()),
+                LocalDateTime.now()
+        );
+
+        contarErro(ex, HttpStatus.NOT_FOUND);
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(body);
+    }
+
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<Object> handleJobNotFound(JobNotFoundException ex) {
+
+        ApiErrorResponse body = new ApiErrorResponse(
+                ex.getMessage(),
+                List.of(HttpStatus.NOT_FOUND.name()),
+                LocalDateTime.now()
+        );
+
+        contarErro(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity
                 .status(HttpStatus.NOT_FOUND)
                 .body(body);
@@ -91,20 +148,154 @@ public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
                 LocalDateTime.now()
         );
 
+        contarErro(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(body);
     }
 
+    @ExceptionHandler(VersaoConflitanteException.class)
+    public ResponseEntity<ApiErrorResponse> handleVersaoConflitante(VersaoConflitanteException ex) {
+
+        ApiErrorResponse body = new ApiErrorResponse(
+                ex.getMessage(),
+                List.of(HttpStatus.PRECONDITION_FAILED.name()),
+                LocalDateTime.now()
+        );
+
+        contarErro(ex, HttpStatus.PRECONDITION_FAILED);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(body);
+    }
+
+    @ExceptionHandler(ChaveIdempotenciaEmUsoException.class)
+    public ResponseEntity<ApiErrorResponse> handleChaveIdempotenciaEmUso(ChaveIdempotenciaEmUsoException ex) {
+
+        ApiErrorResponse body = new ApiErrorResponse(
+                ex.getMessage(),
+                List.of(HttpStatus.CONFLICT.name()),
+                LocalDateTime.now()
+        );
+
+        contarErro(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+
+    @ExceptionHandler(ChaveIdempotenciaReutilizadaException.class)
+    public ResponseEntity<ApiErrorResponse> handleChaveIdempotenciaReutilizada(ChaveIdempotenciaReutilizadaException ex) {
+
+        ApiErrorResponse body = new ApiErrorResponse(
+                ex.getMessage(),
+                List.of(HttpStatus.UNPROCESSABLE_ENTITY.name()),
+                LocalDateTime.now()
+        );
+
+        contarErro(ex, HttpStatus.UNPROCESSABLE_ENTITY);
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(body);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLocking(ObjectOptimisticLockingFailureException ex) {
+
+        ApiErrorResponse body = new ApiErrorResponse(
+                "O registro foi alterado por outra requisição. Busque a versão atual e tente novamente.",
+                List.of(HttpStatus.CONFLICT.name()),
+                LocalDateTime.now()
+        );
+
+        contarErro(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    private boolean violouRestricao(DataIntegrityViolationException ex, String restricao) {
+        return ex.getCause() instanceof ConstraintViolationException violacao
+                && violacao.getConstraintName() != null
+                && violacao.getConstraintName().toLowerCase(Locale.ROOT).contains(restricao);
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ApiErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
 
+        if (violouRestricao(ex, Vendedor.UK_NOME_NORMALIZADO)) {
+            ApiErrorResponse body = new ApiErrorResponse(
+                    "Já existe um vendedor com esse nome",
+                    List.of(HttpStatus.CONFLICT.name()),
+                    LocalDateTime.now()
+            );
+
+            contarErro(ex, HttpStatus.CONFLICT);
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+        }
+
         ApiErrorResponse body = new ApiErrorResponse(
                 "Erro ao salvar dados no banco de dados.",
                 List.of("DATA_INTEGRITY_VIOLATION"),
                 LocalDateTime.now()
         );
 
+        contarErro(ex, HttpStatus.INTERNAL_SERVER_ERROR);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
+    }
+
+    private ResponseEntity<ApiErrorResponse> servicoIndisponivel(RuntimeException ex) {
+
+        ApiErrorResponse body = new ApiErrorResponse(
+                "Serviço sobrecarregado, tente novamente em instantes.",
+                List.of(HttpStatus.SERVICE_UNAVAILABLE.name()),
+                LocalDateTime.now()
+        );
+
+        contarErro(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+
+    private boolean esgotouPoolDeConexoes(Throwable ex) {
+        for (Throwable causa = ex; causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiErrorResponse> handleCannotCreateTransaction(CannotCreateTransactionException ex) {
+
+        if (esgotouPoolDeConexoes(ex)) {
+            return servicoIndisponivel(ex);
+        }
+
+        logger.error("Falha ao abrir transação.", ex);
+        ApiErrorResponse body = new ApiErrorResponse(
+                "Erro ao acessar o banco de dados.",
+                List.of(HttpStatus.INTERNAL_SERVER_ERROR.name()),
+                LocalDateTime.now()
+        );
+
+        contarErro(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiErrorResponse> handleTaskRejected(TaskRejectedException ex) {
+        return servicoIndisponivel(ex);
+    }
+
+    @ExceptionHandler(IngestaoSobrecarregadaException.class)
+    public ResponseEntity<ApiErrorResponse> handleIngestaoSobrecarregada(IngestaoSobrecarregadaException ex) {
+
+        ApiErrorResponse body = new ApiErrorResponse(
+                ex.getMessage(),
+                List.of(HttpStatus.TOO_MANY_REQUESTS.name()),
+                LocalDateTime.now()
+        );
+
+        contarErro(ex, HttpStatus.TOO_MANY_REQUESTS);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+}
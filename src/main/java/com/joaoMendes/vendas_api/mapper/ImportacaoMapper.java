@@ -0,0 +1,40 @@
+package com.joaoMendes.vendas_api.mapper;
+
+import com.joaoMendes.vendas_api.domain.entities.Importacao;
+import com.joaoMendes.vendas_api.domain.entities.RejeicaoImportacao;
+import com.joaoMendes.vendas_api.dto.response.ImportacaoResponse;
+import com.joaoMendes.vendas_api.dto.response.RejeicaoImportacaoResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Component
+public class ImportacaoMapper {
+
+    private static final Pattern SEPARADOR_ERROS = Pattern.compile(Pattern.quote(RejeicaoImportacao.SEPARADOR_ERROS));
+
+    public ImportacaoResponse toResponse(Importacao importacao) {
+        return new ImportacaoResponse(
+                importacao.getId(),
+                importacao.getNomeArquivo(),
+                importacao.getHash(),
+                importacao.getStatus(),
+                importacao.getTotalLinhas(),
+                importacao.getLinhasProcessadas(),
+                importacao.getInseridas(),
+                importacao.getRejeitadas(),
+                importacao.getErro(),
+                importacao.getCriadaEm(),
+                importacao.getAtualizadaEm()
+        );
+    }
+
+    public RejeicaoImportacao toEntity(Long idImportacao, Long linha, List<String> erros) {
+        return new RejeicaoImportacao(idImportacao, linha, String.join(RejeicaoImportacao.SEPARADOR_ERROS, erros));
+    }
+
+    public RejeicaoImportacaoResponse toResponse(RejeicaoImportacao rejeicao) {
+        return new RejeicaoImportacaoResponse(rejeicao.getLinha(), List.of(SEPARADOR_ERROS.split(rejeicao.getErros())));
+    }
+}
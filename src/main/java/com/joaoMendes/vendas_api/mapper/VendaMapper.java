@@ -1,5 +1,6 @@
 package com.joaoMendes.vendas_api.mapper;
 
+import com.joaoMendes.vendas_api.domain.entities.ChaveIdempotencia;
 import com.joaoMendes.vendas_api.domain.entities.Venda;
 import com.joaoMendes.vendas_api.domain.entities.Vendedor;
 import com.joaoMendes.vendas_api.dto.request.VendaRequest;
@@ -31,6 +32,16 @@ public class VendaMapper {
                 );
     }
 
+    public VendaResponse toResponseIdempotente(ChaveIdempotencia chave){
+        return new VendaResponse(
+                chave.getIdVenda(),
+                chave.getDataVenda(),
+                chave.getValor(),
+                chave.getIdVendedor(),
+                chave.getNomeVendedor()
+        );
+    }
+
     public List<VendaResponse> toResponseList(List<Venda> vendas) {
         return vendas.stream()
                 .map(this::toResponse)
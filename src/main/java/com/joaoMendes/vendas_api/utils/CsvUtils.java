@@ -0,0 +1,67 @@
+package com.joaoMendes.vendas_api.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvUtils {
+
+    public static List<String> separarCampos(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c != '"') {
+                    campo.append(c);
+                } else if (i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else {
+                    entreAspas = false;
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c != '\r') {
+                campo.append(c);
+            }
+        }
+
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    public static void escreverCampo(Writer writer, String valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            writer.write(valor);
+            return;
+        }
+        writer.write('"');
+        writer.write(valor.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * Indica se a linha tem um número ímpar de aspas, ou seja, se deixa aberto (ou fecha) um campo entre
+     * aspas que continua na linha seguinte. Aspas duplicadas dentro do campo contam duas vezes e não alteram
+     * o resultado.
+     */
+    public static boolean alternaAspas(String linha) {
+        boolean impar = false;
+        for (int i = 0; i < linha.length(); i++) {
+            if (linha.charAt(i) == '"') {
+                impar = !impar;
+            }
+        }
+        return impar;
+    }
+}
@@ -0,0 +1,24 @@
+package com.joaoMendes.vendas_api.utils;
+
+import org.springframework.http.ETag;
+
+public class ETagUtils {
+
+    public static String fraca(String tag) {
+        return new ETag(tag, true).formattedTag();
+    }
+
+    public static String versaoVenda(Long versaoVenda, Long versaoVendedor) {
+        return versaoVenda + "-" + versaoVendedor;
+    }
+
+    public static boolean corresponde(String ifMatch, String etagAtual) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+
+        ETag atual = ETag.create(etagAtual);
+        return ETag.parse(ifMatch).stream()
+                .anyMatch(etag -> etag.isWildcard() || etag.compare(atual, true));
+    }
+}
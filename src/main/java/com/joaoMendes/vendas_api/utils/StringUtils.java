@@ -1,13 +1,53 @@
 package com.joaoMendes.vendas_api.utils;
 
+import java.util.Locale;
+
 public class StringUtils {
 
-    public static String normalizeString(String value) {
-        return value.trim().toLowerCase();
-    }
+    private static final int LETRA_I_MAIUSCULA_COM_PONTO = 0x0130;
+    private static final int SIGMA_MAIUSCULO = 0x03A3;
 
     public static String cleanStringForSave(String s) {
-        return s.replaceAll("[^\\p{L}]", "");
+        return manterLetras(s, false);
+    }
+
+    public static String cleanAndNormalize(String s) {
+        return manterLetras(s, true);
     }
 
-}
\ No newline at end of file
+    private static String manterLetras(String s, boolean minusculas) {
+        int tamanho = s.length();
+        int i = 0;
+        while (i < tamanho) {
+            int codePoint = s.codePointAt(i);
+            if (!Character.isLetter(codePoint) || (minusculas && Character.toLowerCase(codePoint) != codePoint)) {
+                break;
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (i == tamanho) {
+            return s;
+        }
+
+        StringBuilder sb = new StringBuilder(tamanho);
+        sb.append(s, 0, i);
+        boolean casingEspecial = false;
+
+        while (i < tamanho) {
+            int codePoint = s.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (!Character.isLetter(codePoint)) {
+                continue;
+            }
+            if (minusculas) {
+                if (codePoint == LETRA_I_MAIUSCULA_COM_PONTO || codePoint == SIGMA_MAIUSCULO) {
+                    casingEspecial = true;
+                }
+                codePoint = Character.toLowerCase(codePoint);
+            }
+            sb.appendCodePoint(codePoint);
+        }
+
+        return casingEspecial ? cleanStringForSave(s).toLowerCase(Locale.ROOT) : sb.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package com.joaoMendes.vendas_api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoteamentoDataSourceTest {
+
+    private DriverManagerDataSource primario;
+    private DriverManagerDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+
+    private DriverManagerDataSource criarBanco(String nome) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + nome + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table origem (nome varchar(20))");
+        template.update("insert into origem values (?)", nome);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setup() {
+        primario = criarBanco("primario");
+        replica = criarBanco("replica");
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new RoteamentoDataSource(primario, replica));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    @AfterEach
+    void limpar() {
+        new JdbcTemplate(primario).execute("shutdown");
+        new JdbcTemplate(replica).execute("shutdown");
+    }
+
+    private String origem() {
+        return jdbcTemplate.queryForObject("select nome from origem", String.class);
+    }
+
+    @Test
+    void transacaoSomenteLeituraUsaReplica() {
+        assertEquals("replica", leitura.execute(status -> origem()));
+    }
+
+    @Test
+    void transacaoDeEscritaUsaPrimario() {
+        assertEquals("primario", escrita.execute(status -> origem()));
+    }
+
+    @Test
+    void semTransacaoUsaPrimario() {
+        assertEquals("primario", origem());
+    }
+
+    @Test
+    void noPrimarioForcaPrimarioEmTransacaoSomenteLeitura() {
+        assertEquals("primario", RoteamentoDataSource.noPrimario(() -> leitura.execute(status -> origem())));
+        assertEquals("replica", leitura.execute(status -> origem()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.joaoMendes.vendas_api.config;
+
+import com.joaoMendes.vendas_api.domain.service.VendaService;
+import com.joaoMendes.vendas_api.domain.service.VendedorService;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.request.VendedorRequest;
+import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import com.joaoMendes.vendas_api.dto.response.VendedorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sequenciasId;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+class SequenciasIdInicializadorTest {
+
+    @Autowired
+    private SequenciasIdInicializador sequenciasIdInicializador;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VendedorService vendedorService;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Test
+    void bancoComIdsDaEpocaDoIdentityNaoColideNoPrimeiroInsert() {
+        jdbcTemplate.update("insert into tb_vendedor (id, nome, nome_normalizado, versao) values (7, 'Legado', 'legado', 0)");
+        jdbcTemplate.update("insert into tb_venda (id, data_venda, valor, id_vendedor, versao) values (30, date '2025-01-01', 10.00, 7, 0)");
+        jdbcTemplate.execute("alter sequence sq_vendedor restart with 1");
+        jdbcTemplate.execute("alter sequence sq_venda restart with 1");
+
+        sequenciasIdInicializador.ajustar();
+
+        VendedorResponse vendedor = vendedorService.create(new VendedorRequest("Novo"));
+        VendaResponse venda = vendaService.create(new VendaRequest(LocalDate.of(2025, 1, 2), new BigDecimal("20.00"), vendedor.id()));
+
+        assertTrue(vendedor.id() > 7);
+        assertTrue(venda.id() > 30);
+    }
+
+    @Test
+    void sequenciaJaAFrenteDoMaiorIdNaoEReiniciada() {
+        jdbcTemplate.execute("alter sequence sq_venda restart with 5000");
+
+        sequenciasIdInicializador.ajustar();
+
+        assertEquals(5000L, jdbcTemplate.queryForObject(
+                "select base_value from information_schema.sequences where sequence_name = 'SQ_VENDA'", Long.class));
+    }
+
+    @Test
+    void bancoLimpoNaoReiniciaSequencias() {
+        jdbcTemplate.update("delete from tb_venda_diaria");
+        jdbcTemplate.update("delete from tb_venda");
+        jdbcTemplate.update("delete from tb_vendedor");
+        jdbcTemplate.execute("alter sequence sq_vendedor restart with 1");
+        jdbcTemplate.execute("alter sequence sq_venda restart with 1");
+
+        sequenciasIdInicializador.ajustar();
+
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "select base_value from information_schema.sequences where sequence_name = 'SQ_VENDA'", Long.class));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "select base_value from information_schema.sequences where sequence_name = 'SQ_VENDEDOR'", Long.class));
+    }
+}
@@ -0,0 +1,89 @@
+package com.joaoMendes.vendas_api.controller;
+
+import com.joaoMendes.vendas_api.domain.exception.IngestaoSobrecarregadaException;
+import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.domain.service.IngestaoVendasExecutor;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.IngestaoVendaResponse;
+import com.joaoMendes.vendas_api.dto.response.StatusIngestaoResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(IngestaoVendaController.class)
+@TestPropertySource(properties = "vendas.ingestao.habilitada=true")
+class IngestaoVendaControllerTest {
+
+    private static final String VENDA = """
+            {"dataVenda":"10/11/2025","valor":100.50,"idVendedor":1}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private IngestaoVendasExecutor ingestaoVendasExecutor;
+
+    @Test
+    void dadoVendaValida_quandoIngerir_entaoRetornar202ComSequencia() throws Exception {
+        given(ingestaoVendasExecutor.aceitar(any(VendaRequest.class)))
+                .willReturn(new IngestaoVendaResponse(42L, LocalDateTime.of(2025, 11, 10, 9, 0)));
+
+        mockMvc.perform(post("/vendas/ingestao").contentType(MediaType.APPLICATION_JSON).content(VENDA))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.sequencia").value(42))
+                .andExpect(jsonPath("$.recebidaEm").value("10/11/2025 09:00:00"));
+    }
+
+    @Test
+    void dadoFilaCheia_quandoIngerir_entaoRetornar429() throws Exception {
+        given(ingestaoVendasExecutor.aceitar(any(VendaRequest.class))).willThrow(new IngestaoSobrecarregadaException());
+
+        mockMvc.perform(post("/vendas/ingestao").contentType(MediaType.APPLICATION_JSON).content(VENDA))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.erros[0]").value("TOO_MANY_REQUESTS"));
+    }
+
+    @Test
+    void dadoVendedorInexistente_quandoIngerir_entaoRetornar404() throws Exception {
+        given(ingestaoVendasExecutor.aceitar(any(VendaRequest.class))).willThrow(new VendedorNotFoundException(1L));
+
+        mockMvc.perform(post("/vendas/ingestao").contentType(MediaType.APPLICATION_JSON).content(VENDA))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void dadoVendaSemValor_quandoIngerir_entaoRetornar400() throws Exception {
+        mockMvc.perform(post("/vendas/ingestao").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"dataVenda\":\"10/11/2025\",\"idVendedor\":1}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(ingestaoVendasExecutor);
+    }
+
+    @Test
+    void quandoBuscarStatus_entaoRetornarFila() throws Exception {
+        given(ingestaoVendasExecutor.getStatus()).willReturn(new StatusIngestaoResponse(3, 10000, 45L, 42L));
+
+        mockMvc.perform(get("/vendas/ingestao"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pendentes").value(3))
+                .andExpect(jsonPath("$.ultimaSequenciaGravada").value(42));
+    }
+}
@@ -1,32 +1,78 @@
 package com.joaoMendes.vendas_api.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.joaoMendes.vendas_api.domain.entities.StatusImportacao;
+import com.joaoMendes.vendas_api.domain.entities.Venda;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaEmUsoException;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaReutilizadaException;
+import com.joaoMendes.vendas_api.domain.exception.ImportacaoNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.JobNotFoundException;
 import com.joaoMendes.vendas_api.domain.exception.VendaNotFoundException;
 import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.VersaoConflitanteException;
+import com.joaoMendes.vendas_api.domain.service.EstatisticaJobService;
+import com.joaoMendes.vendas_api.domain.service.IdempotenciaService;
+import com.joaoMendes.vendas_api.domain.service.ImportacaoExecutor;
+import com.joaoMendes.vendas_api.domain.service.ImportacaoService;
+import com.joaoMendes.vendas_api.domain.service.RespostaIdempotente;
+import com.joaoMendes.vendas_api.domain.service.VendaExportacaoService;
 import com.joaoMendes.vendas_api.domain.service.VendaService;
+import com.joaoMendes.vendas_api.dto.request.FormatoExportacao;
+import com.joaoMendes.vendas_api.dto.request.Granularidade;
 import com.joaoMendes.vendas_api.dto.request.MediaPorPeriodoRequest;
 import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.ExclusaoVendasResponse;
+import com.joaoMendes.vendas_api.dto.response.ImportacaoResponse;
+import com.joaoMendes.vendas_api.dto.response.JobEstatisticaResponse;
 import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import com.joaoMendes.vendas_api.dto.response.PontoSerieVendasResponse;
+import com.joaoMendes.vendas_api.dto.response.RejeicaoImportacaoResponse;
+import com.joaoMendes.vendas_api.dto.response.SerieVendasResponse;
+import com.joaoMendes.vendas_api.dto.response.StatusJob;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteErroResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaPaginaResponse;
 import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import com.joaoMendes.vendas_api.dto.response.VerificacaoVendaDiariaResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(VendaController.class)
@@ -38,6 +84,21 @@ class VendaControllerTest {
     @MockitoBean
     private VendaService vendaService;
 
+    @MockitoBean
+    private VendaExportacaoService vendaExportacaoService;
+
+    @MockitoBean
+    private ImportacaoService importacaoService;
+
+    @MockitoBean
+    private ImportacaoExecutor importacaoExecutor;
+
+    @MockitoBean
+    private EstatisticaJobService estatisticaJobService;
+
+    @MockitoBean
+    private IdempotenciaService idempotenciaService;
+
     @Autowired
     private ObjectMapper mapper;
 
@@ -102,6 +163,75 @@ class VendaControllerTest {
         verify(vendaService).create(any(VendaRequest.class));
     }
 
+    @Test
+    void dadoIdempotencyKey_quandoCriarVenda_entaoDelegarAoServicoDeIdempotencia() throws Exception {
+
+        given(idempotenciaService.create(eq("chave-1"), any(VendaRequest.class)))
+                .willReturn(new RespostaIdempotente(vendaResponse, false));
+
+        mockMvc.perform(
+                        post("/vendas")
+                                .header("Idempotency-Key", "chave-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(vendaRequest))
+                )
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "false"))
+                .andExpect(jsonPath("$.id").value(ID_VENDA));
+
+        verify(vendaService, never()).create(any());
+    }
+
+    @Test
+    void dadoIdempotencyKeyRepetida_quandoCriarVenda_entaoRetornarRespostaOriginal() throws Exception {
+
+        given(idempotenciaService.create(eq("chave-1"), any(VendaRequest.class)))
+                .willReturn(new RespostaIdempotente(vendaResponse, true));
+
+        mockMvc.perform(
+                        post("/vendas")
+                                .header("Idempotency-Key", "chave-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(vendaRequest))
+                )
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(ID_VENDA))
+                .andExpect(jsonPath("$.nomeVendedor").value("vendedorNome"));
+    }
+
+    @Test
+    void dadoIdempotencyKeyComOutroCorpo_quandoCriarVenda_entaoRetornar422() throws Exception {
+
+        given(idempotenciaService.create(eq("chave-1"), any(VendaRequest.class)))
+                .willThrow(new ChaveIdempotenciaReutilizadaException("chave-1"));
+
+        mockMvc.perform(
+                        post("/vendas")
+                                .header("Idempotency-Key", "chave-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(vendaRequest))
+                )
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.erros[0]").value("UNPROCESSABLE_ENTITY"));
+    }
+
+    @Test
+    void dadoIdempotencyKeyEmProcessamento_quandoCriarVenda_entaoRetornar409ComRetryAfter() throws Exception {
+
+        given(idempotenciaService.create(eq("chave-1"), any(VendaRequest.class)))
+                .willThrow(new ChaveIdempotenciaEmUsoException("chave-1"));
+
+        mockMvc.perform(
+                        post("/vendas")
+                                .header("Idempotency-Key", "chave-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(vendaRequest))
+                )
+                .andExpect(status().isConflict())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
     @Test
     void dadoRequestInvalido_quandoCriarVenda_entaoRetornar400() throws Exception {
 
@@ -121,6 +251,96 @@ class VendaControllerTest {
         verify(vendaService, never()).create(any());
     }
 
+    @Test
+    void dadoArrayDeVendas_quandoCriarEmLote_entaoRetornarRelatorio() throws Exception {
+        given(vendaService.createEmLote(anyList()))
+                .willReturn(new VendaLoteResponse(2, 1, List.of(new VendaLoteErroResponse(1, List.of("erro")))));
+
+        mockMvc.perform(
+                        post("/vendas/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(List.of(vendaRequest, vendaRequest)))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recebidas").value(2))
+                .andExpect(jsonPath("$.inseridas").value(1))
+                .andExpect(jsonPath("$.erros[0].indice").value(1));
+
+        verify(vendaService).createEmLote(argThat(requests -> requests.size() == 2));
+    }
+
+    @Test
+    void dadoArrayAcimaDoLimite_quandoCriarEmLote_entaoRetornarBadRequestSemChamarServico() throws Exception {
+        String item = mapper.writeValueAsString(vendaRequest);
+        String corpo = "[" + String.join(",", Collections.nCopies(VendaService.TAMANHO_MAXIMO_LOTE + 1, item))
+                + ",{nao-e-json";
+
+        mockMvc.perform(
+                        post("/vendas/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(corpo)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensagem").value("O lote pode ter no máximo " + VendaService.TAMANHO_MAXIMO_LOTE + " vendas."));
+
+        verify(vendaService, never()).createEmLote(anyList());
+    }
+
+    @Test
+    void dadoCorpoQueNaoEArray_quandoCriarEmLote_entaoRetornarBadRequest() throws Exception {
+        mockMvc.perform(
+                        post("/vendas/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(vendaRequest))
+                )
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+                        post("/vendas/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[" + mapper.writeValueAsString(vendaRequest) + ", {nao-e-json]")
+                )
+                .andExpect(status().isBadRequest());
+
+        verify(vendaService, never()).createEmLote(anyList());
+    }
+
+    @Test
+    void dadoNdjsonComLinhaInvalida_quandoCriarEmLote_entaoEnviarItemNuloNaPosicao() throws Exception {
+        given(vendaService.createEmLote(anyList()))
+                .willReturn(new VendaLoteResponse(2, 1, List.of()));
+
+        String corpo = mapper.writeValueAsString(vendaRequest) + "\n{nao-e-json\n\n";
+
+        mockMvc.perform(
+                        post("/vendas/batch")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(corpo)
+                )
+                .andExpect(status().isOk());
+
+        verify(vendaService).createEmLote(argThat(requests ->
+                requests.size() == 2
+                        && requests.get(0).getIdVendedor().equals(ID_VENDEDOR)
+                        && requests.get(1) == null));
+    }
+
+    @Test
+    void dadoNdjsonAcimaDoLimite_quandoCriarEmLote_entaoRetornarBadRequestSemChamarServico() throws Exception {
+        String linha = mapper.writeValueAsString(vendaRequest) + "\n";
+        String corpo = linha.repeat(VendaService.TAMANHO_MAXIMO_LOTE + 1);
+
+        mockMvc.perform(
+                        post("/vendas/batch")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(corpo)
+                )
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensagem").value("O lote pode ter no máximo " + VendaService.TAMANHO_MAXIMO_LOTE + " vendas."));
+
+        verify(vendaService, never()).createEmLote(anyList());
+    }
+
     @Test
     void dadoExistemVendas_quandoListar_entaoRetornarListaPreenchida() throws Exception {
         given(vendaService.getAll()).willReturn(List.of(vendaResponse));
@@ -146,6 +366,205 @@ class VendaControllerTest {
         verify(vendaService).getAll();
     }
 
+    @Test
+    void dadoAcceptNdjson_quandoListar_entaoRetornarUmaVendaPorLinha() throws Exception {
+        given(vendaService.getAll()).willReturn(List.of(vendaResponse, vendaResponse));
+
+        MvcResult resultado = mockMvc.perform(get("/vendas").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        String[] linhas = resultado.getResponse().getContentAsString().split("\n");
+        assertEquals(2, linhas.length);
+        assertEquals(ID_VENDA, mapper.readTree(linhas[1]).get("id").asLong());
+    }
+
+    @Test
+    void dadoAcceptCbor_quandoListar_entaoRetornarCorpoBinario() throws Exception {
+        given(vendaService.getAll()).willReturn(List.of(vendaResponse));
+
+        MvcResult resultado = mockMvc.perform(get("/vendas").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor"))
+                .andReturn();
+
+        JsonNode vendas = new ObjectMapper(new CBORFactory()).readTree(resultado.getResponse().getContentAsByteArray());
+        assertEquals(ID_VENDA, vendas.get(0).get("id").asLong());
+        assertEquals("20/11/2025", vendas.get(0).get("dataVenda").asText());
+    }
+
+    @Test
+    void dadoPoolDeConexoesEsgotado_quandoListar_entaoRetornar503() throws Exception {
+        given(vendaService.getAll())
+                .willThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                        new SQLTransientConnectionException("HikariPool-1 - Connection is not available, request timed out after 30000ms.")));
+
+        ResultActions resposta = mockMvc.perform(get("/vendas"));
+
+        resposta.andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.erros[0]").value("SERVICE_UNAVAILABLE"));
+    }
+
+    @Test
+    void dadoFalhaAoAbrirTransacaoQueNaoEEsgotamentoDoPool_quandoListar_entaoRetornar500() throws Exception {
+        given(vendaService.getAll())
+                .willThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                        new SQLException("Wrong user name or password")));
+
+        mockMvc.perform(get("/vendas"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(header().doesNotExist("Retry-After"));
+    }
+
+    @Test
+    void dadoLimite_quandoListarPaginado_entaoRetornarPaginaComCursor() throws Exception {
+        given(vendaService.getPagina("MQ", 1))
+                .willReturn(new VendaPaginaResponse(List.of(vendaResponse), "Mg"));
+
+        ResultActions resposta = mockMvc.perform(
+                get("/vendas")
+                        .param("after", "MQ")
+                        .param("limit", "1")
+        );
+
+        resposta.andExpect(status().isOk())
+                .andExpect(jsonPath("$.vendas.length()").value(1))
+                .andExpect(jsonPath("$.vendas[0].id").value(ID_VENDA))
+                .andExpect(jsonPath("$.proximoCursor").value("Mg"));
+
+        verify(vendaService).getPagina("MQ", 1);
+        verify(vendaService, never()).getAll();
+    }
+
+    @Test
+    void dadoLimiteInvalido_quandoListarPaginado_entao400() throws Exception {
+        given(vendaService.getPagina(null, 0))
+                .willThrow(new IllegalArgumentException("O limite deve estar entre 1 e 1000."));
+
+        mockMvc.perform(get("/vendas").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void dadoExistemVendas_quandoStream_entaoEscreverArrayJson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<VendaResponse> consumer = invocation.getArgument(0);
+            consumer.accept(vendaResponse);
+            consumer.accept(vendaResponse);
+            return null;
+        }).when(vendaService).streamAll(any());
+
+        MvcResult resultado = mockMvc.perform(get("/vendas/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(ID_VENDA))
+                .andExpect(jsonPath("$[0].dataVenda").value("20/11/2025"));
+
+        verify(vendaService).streamAll(any());
+    }
+
+    @Test
+    void dadoFormatoCsv_quandoExportar_entaoEscreverAnexoCsv() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream saida = invocation.getArgument(3);
+            saida.write("id,dataVenda,valor,idVendedor,nomeVendedor\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(vendaExportacaoService).exportar(eq(FormatoExportacao.CSV), eq(LocalDate.of(2025, 11, 1)),
+                eq(LocalDate.of(2025, 11, 30)), any());
+
+        MvcResult resultado = mockMvc.perform(get("/vendas/export")
+                        .param("formato", "csv")
+                        .param("dataInicio", "01/11/2025")
+                        .param("dataFim", "30/11/2025"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"vendas.csv\""))
+                .andExpect(content().string("id,dataVenda,valor,idVendedor,nomeVendedor\n"));
+    }
+
+    @Test
+    void dadoFormatoNdjson_quandoExportarSemPeriodo_entaoUsarTipoNdjson() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/vendas/export").param("formato", "NDJSON"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"vendas.ndjson\""));
+
+        verify(vendaExportacaoService).exportar(eq(FormatoExportacao.NDJSON), isNull(), isNull(), any());
+    }
+
+    @Test
+    void dadoFormatoInvalido_quandoExportar_entaoRetornar400() throws Exception {
+        mockMvc.perform(get("/vendas/export").param("formato", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensagem").value("Formato inválido. Valores aceitos: csv, ndjson."));
+
+        verifyNoInteractions(vendaExportacaoService);
+    }
+
+    private ImportacaoResponse importacao(StatusImportacao status) {
+        LocalDateTime agora = LocalDateTime.of(2025, 11, 20, 10, 0);
+        return new ImportacaoResponse(1L, "vendas.csv", "abc", status, 2L, 0L, 0L, 0L, null, agora, agora);
+    }
+
+    @Test
+    void dadoArquivoCsv_quandoImportar_entaoRetornar202EIniciarProcessamento() throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "vendas.csv", "text/csv",
+                "dataVenda,valor,idVendedor\n10/11/2025,100.50,1\n".getBytes(StandardCharsets.UTF_8));
+        ImportacaoResponse response = importacao(StatusImportacao.PROCESSANDO);
+        given(importacaoService.receber(any())).willReturn(response);
+
+        mockMvc.perform(multipart("/vendas/import").file(arquivo))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/vendas/import/1"))
+                .andExpect(jsonPath("$.status").value("PROCESSANDO"))
+                .andExpect(jsonPath("$.totalLinhas").value(2));
+
+        verify(importacaoExecutor).iniciar(response);
+    }
+
+    @Test
+    void dadoArquivoJaImportado_quandoImportar_entaoRetornar200() throws Exception {
+        MockMultipartFile arquivo = new MockMultipartFile("arquivo", "vendas.csv", "text/csv", new byte[]{'a'});
+        given(importacaoService.receber(any())).willReturn(importacao(StatusImportacao.CONCLUIDA));
+
+        mockMvc.perform(multipart("/vendas/import").file(arquivo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONCLUIDA"));
+    }
+
+    @Test
+    void dadoIdImportacao_quandoBuscarRejeicoes_entaoRetornarLista() throws Exception {
+        given(importacaoService.getRejeicoes(1L, 10L, 50))
+                .willReturn(List.of(new RejeicaoImportacaoResponse(12L, List.of("valor: número inválido."))));
+
+        mockMvc.perform(get("/vendas/import/1/rejeicoes").param("after", "10").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].linha").value(12))
+                .andExpect(jsonPath("$[0].erros[0]").value("valor: número inválido."));
+    }
+
+    @Test
+    void dadoIdImportacaoInexistente_quandoBuscar_entaoRetornar404() throws Exception {
+        given(importacaoService.getById(9L)).willThrow(new ImportacaoNotFoundException(9L));
+
+        mockMvc.perform(get("/vendas/import/9"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void dadoIdVendedor_quandoBuscarVendas_entaoRetornarLista() throws Exception {
         given(vendaService.getVendasPorVendedorById(ID_VENDEDOR))
@@ -194,16 +613,59 @@ class VendaControllerTest {
     @Test
     void dadoIdInexistente_quandoBuscarVenda_entaoRetornar404() throws Exception {
 
-        given(vendaService.getById(ID_VENDA))
+        given(vendaService.getETag(ID_VENDA))
                 .willThrow(new VendaNotFoundException(ID_VENDA));
 
         mockMvc.perform(get("/vendas/{id}", ID_VENDA))
                 .andExpect(status().isNotFound());
 
-        verify(vendaService).getById(ID_VENDA);
+        verify(vendaService).getETag(ID_VENDA);
         verifyNoMoreInteractions(vendaService);
     }
 
+    @Test
+    void dadoIdValido_quandoBuscarPorId_entaoRetornarETagDaVersao() throws Exception {
+        given(vendaService.getETag(ID_VENDA)).willReturn("2-0");
+        given(vendaService.getById(ID_VENDA)).willReturn(vendaResponse);
+
+        mockMvc.perform(get("/vendas/{id}", ID_VENDA))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2-0\""))
+                .andExpect(jsonPath("$.id").value(ID_VENDA));
+    }
+
+    @Test
+    void dadoIfNoneMatchAtual_quandoBuscarPorId_entaoRetornar304SemConsultarVenda() throws Exception {
+        given(vendaService.getETag(ID_VENDA)).willReturn("2-0");
+
+        mockMvc.perform(get("/vendas/{id}", ID_VENDA).header("If-None-Match", "\"2-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2-0\""))
+                .andExpect(content().string(""));
+
+        verify(vendaService, never()).getById(any());
+    }
+
+    @Test
+    void dadoIfNoneMatchDesatualizado_quandoBuscarPorId_entaoRetornar200() throws Exception {
+        given(vendaService.getETag(ID_VENDA)).willReturn("3-0");
+        given(vendaService.getById(ID_VENDA)).willReturn(vendaResponse);
+
+        mockMvc.perform(get("/vendas/{id}", ID_VENDA).header("If-None-Match", "\"2-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3-0\""));
+    }
+
+    @Test
+    void dadoIfNoneMatchDaColecaoAtual_quandoListar_entaoRetornar304SemListar() throws Exception {
+        given(vendaService.getETagColecao()).willReturn("1-10-0-0");
+
+        mockMvc.perform(get("/vendas").header("If-None-Match", "\"1-10-0-0\""))
+                .andExpect(status().isNotModified());
+
+        verify(vendaService, never()).getAll();
+    }
+
     @Test
     void dadoUpdateRequest_quandoAtualizar_entaoRetornarVendaAtualizada() throws Exception {
 
@@ -215,7 +677,7 @@ class VendaControllerTest {
                 "vendedorEditado"
         );
 
-        given(vendaService.update(eq(ID_VENDA), any(VendaRequest.class)))
+        given(vendaService.update(eq(ID_VENDA), any(VendaRequest.class), any()))
                 .willReturn(atualizada);
 
         ResultActions resposta = mockMvc.perform(
@@ -229,7 +691,47 @@ class VendaControllerTest {
                 .andExpect(jsonPath("$.nomeVendedor").value("vendedorEditado"))
                 .andExpect(jsonPath("$.valor").value(999.00));
 
-        verify(vendaService).update(eq(ID_VENDA), any(VendaRequest.class));
+        verify(vendaService).update(eq(ID_VENDA), any(VendaRequest.class), any());
+    }
+
+    @Test
+    void dadoIfMatch_quandoAtualizar_entaoRepassarVersaoEsperada() throws Exception {
+        given(vendaService.update(eq(ID_VENDA), any(VendaRequest.class), eq("\"2-1\"")))
+                .willReturn(vendaResponse);
+
+        mockMvc.perform(put("/vendas/{id}", ID_VENDA)
+                        .header("If-Match", "\"2-1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(vendaRequest)))
+                .andExpect(status().isOk());
+
+        verify(vendaService).update(eq(ID_VENDA), any(VendaRequest.class), eq("\"2-1\""));
+    }
+
+    @Test
+    void dadoIfMatchDesatualizado_quandoAtualizar_entao412() throws Exception {
+        given(vendaService.update(eq(ID_VENDA), any(VendaRequest.class), any()))
+                .willThrow(new VersaoConflitanteException("venda", ID_VENDA));
+
+        mockMvc.perform(put("/vendas/{id}", ID_VENDA)
+                        .header("If-Match", "\"1-1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(vendaRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.erros[0]").value("PRECONDITION_FAILED"));
+    }
+
+    @Test
+    void dadoAtualizacaoConcorrente_quandoAtualizar_entao409() throws Exception {
+        given(vendaService.update(eq(ID_VENDA), any(VendaRequest.class), any()))
+                .willThrow(new ObjectOptimisticLockingFailureException(Venda.class, ID_VENDA));
+
+        mockMvc.perform(put("/vendas/{id}", ID_VENDA)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(vendaRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.mensagem").value(
+                        "O registro foi alterado por outra requisição. Busque a versão atual e tente novamente."));
     }
 
     @Test
@@ -244,13 +746,13 @@ class VendaControllerTest {
                 )
                 .andExpect(status().isBadRequest());
 
-        verify(vendaService, never()).update(anyLong(), any());
+        verify(vendaService, never()).update(anyLong(), any(), any());
     }
 
     @Test
     void dadoIdInexistente_quandoAtualizar_entao404() throws Exception {
 
-        given(vendaService.update(eq(ID_VENDA), any()))
+        given(vendaService.update(eq(ID_VENDA), any(), any()))
                 .willThrow(new VendaNotFoundException(ID_VENDA));
 
         mockMvc.perform(
@@ -260,7 +762,7 @@ class VendaControllerTest {
                 )
                 .andExpect(status().isNotFound());
 
-        verify(vendaService).update(eq(ID_VENDA), any());
+        verify(vendaService).update(eq(ID_VENDA), any(), any());
         verifyNoMoreInteractions(vendaService);
     }
 
@@ -290,6 +792,32 @@ class VendaControllerTest {
         verifyNoMoreInteractions(vendaService);
     }
 
+    @Test
+    void dadoIds_quandoDeletarEmLote_entaoRetornarQuantidadeRemovida() throws Exception {
+        given(vendaService.deleteEmLote(List.of(1L, 2L, 3L))).willReturn(new ExclusaoVendasResponse(2L));
+
+        mockMvc.perform(delete("/vendas").param("ids", "1,2,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removidas").value(2));
+    }
+
+    @Test
+    void dadoVendedorEPeriodo_quandoDeletarPorPeriodo_entaoRetornarQuantidadeRemovida() throws Exception {
+        given(vendaService.deletePorPeriodo(eq(ID_VENDEDOR), any(MediaPorPeriodoRequest.class)))
+                .willReturn(new ExclusaoVendasResponse(40L));
+
+        mockMvc.perform(delete("/vendas")
+                        .param("idVendedor", String.valueOf(ID_VENDEDOR))
+                        .param("dataInicio", "01/01/2024")
+                        .param("dataFim", "31/12/2024"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.removidas").value(40));
+
+        verify(vendaService).deletePorPeriodo(eq(ID_VENDEDOR), argThat(periodo ->
+                periodo.getDataInicio().equals(LocalDate.of(2024, 1, 1))
+                        && periodo.getDataFim().equals(LocalDate.of(2024, 12, 31))));
+    }
+
     @Test
     void dadoFiltro_quandoCalcularEstatistica_entaoRetornarMedia() throws Exception {
 
@@ -314,4 +842,111 @@ class VendaControllerTest {
 
         verify(vendaService).calcularMediaPorPeriodo(eq(ID_VENDEDOR), any(MediaPorPeriodoRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void dadoPeriodo_quandoIniciarJobEstatistica_entaoRetornar202ComLocation() throws Exception {
+        JobEstatisticaResponse job = new JobEstatisticaResponse("abc", ID_VENDEDOR,
+                LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 20), StatusJob.PENDENTE,
+                null, null, LocalDateTime.of(2025, 11, 21, 10, 0), null);
+        given(estatisticaJobService.iniciar(eq(ID_VENDEDOR), any(MediaPorPeriodoRequest.class))).willReturn(job);
+
+        mockMvc.perform(post("/vendas/{idVendedor}/estatistica/jobs", ID_VENDEDOR)
+                        .param("dataInicio", "01/11/2025")
+                        .param("dataFim", "20/11/2025"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/vendas/10/estatistica/jobs/abc"))
+                .andExpect(jsonPath("$.id").value("abc"))
+                .andExpect(jsonPath("$.status").value("PENDENTE"))
+                .andExpect(jsonPath("$.dataInicio").value("01/11/2025"));
+    }
+
+    @Test
+    void dadoFilaDeJobsCheia_quandoIniciarJobEstatistica_entaoRetornar503() throws Exception {
+        given(estatisticaJobService.iniciar(eq(ID_VENDEDOR), any(MediaPorPeriodoRequest.class)))
+                .willThrow(new TaskRejectedException("Fila cheia"));
+
+        mockMvc.perform(post("/vendas/{idVendedor}/estatistica/jobs", ID_VENDEDOR)
+                        .param("dataInicio", "01/11/2025")
+                        .param("dataFim", "20/11/2025"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void dadoJobConcluido_quandoBuscarJobEstatistica_entaoRetornarResultado() throws Exception {
+        JobEstatisticaResponse job = new JobEstatisticaResponse("abc", ID_VENDEDOR,
+                LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 20), StatusJob.CONCLUIDO,
+                mediaResponse, null, LocalDateTime.of(2025, 11, 21, 10, 0), LocalDateTime.of(2025, 11, 21, 10, 1));
+        given(estatisticaJobService.getById(ID_VENDEDOR, "abc")).willReturn(job);
+
+        mockMvc.perform(get("/vendas/{idVendedor}/estatistica/jobs/{id}", ID_VENDEDOR, "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONCLUIDO"))
+                .andExpect(jsonPath("$.resultado.mediaDiaria").value(20.50))
+                .andExpect(jsonPath("$.concluidoEm").value("21/11/2025 10:01:00"));
+    }
+
+    @Test
+    void dadoJobInexistente_quandoBuscarJobEstatistica_entaoRetornar404() throws Exception {
+        given(estatisticaJobService.getById(ID_VENDEDOR, "xyz")).willThrow(new JobNotFoundException("xyz"));
+
+        mockMvc.perform(get("/vendas/{idVendedor}/estatistica/jobs/{id}", ID_VENDEDOR, "xyz"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void dadoGranularidadeMensal_quandoBuscarSerie_entaoRetornarPontos() throws Exception {
+        SerieVendasResponse serie = new SerieVendasResponse(
+                ID_VENDEDOR,
+                "vendedorNome",
+                Granularidade.MES,
+                LocalDate.of(2025, 10, 15),
+                LocalDate.of(2025, 11, 20),
+                List.of(
+                        new PontoSerieVendasResponse("2025-10", LocalDate.of(2025, 10, 15), LocalDate.of(2025, 10, 31),
+                                17L, BigDecimal.ZERO, BigDecimal.ZERO, 0L),
+                        new PontoSerieVendasResponse("2025-11", LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 20),
+                                20L, new BigDecimal("205.00"), new BigDecimal("10.25"), 10L)
+                )
+        );
+        given(vendaService.getSerie(eq(ID_VENDEDOR), any(MediaPorPeriodoRequest.class), eq(Granularidade.MES)))
+                .willReturn(serie);
+
+        mockMvc.perform(get("/vendas/{idVendedor}/serie", ID_VENDEDOR)
+                        .param("dataInicio", "15/10/2025")
+                        .param("dataFim", "20/11/2025")
+                        .param("granularidade", "MES"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.granularidade").value("MES"))
+                .andExpect(jsonPath("$.pontos.length()").value(2))
+                .andExpect(jsonPath("$.pontos[0].dataInicio").value("15/10/2025"))
+                .andExpect(jsonPath("$.pontos[0].quantidadeVendas").value(0))
+                .andExpect(jsonPath("$.pontos[1].rotulo").value("2025-11"))
+                .andExpect(jsonPath("$.pontos[1].totalVendido").value(205.00));
+    }
+
+    @Test
+    void dadoGranularidadeInvalida_quandoBuscarSerie_entaoRetornarBadRequest() throws Exception {
+        mockMvc.perform(get("/vendas/{idVendedor}/serie", ID_VENDEDOR)
+                        .param("dataInicio", "15/10/2025")
+                        .param("dataFim", "20/11/2025")
+                        .param("granularidade", "ANO"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(vendaService);
+    }
+
+    @Test
+    void dadoPedidoDeCorrecao_quandoVerificarVendaDiaria_entaoRetornarRelatorio() throws Exception {
+        given(vendaService.verificarVendaDiaria(true))
+                .willReturn(new VerificacaoVendaDiariaResponse(5L, 0L, true, List.of()));
+
+        mockMvc.perform(post("/vendas/diaria/verificacao").param("corrigir", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.diasVerificados").value(5))
+                .andExpect(jsonPath("$.totalDivergencias").value(0))
+                .andExpect(jsonPath("$.corrigido").value(true));
+
+        verify(vendaService).verificarVendaDiaria(true);
+    }
+}
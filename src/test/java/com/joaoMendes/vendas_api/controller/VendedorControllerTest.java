@@ -2,24 +2,38 @@ package com.joaoMendes.vendas_api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.domain.service.VendaService;
 import com.joaoMendes.vendas_api.domain.service.VendedorService;
+import com.joaoMendes.vendas_api.dto.request.MediaPorPeriodoRequest;
 import com.joaoMendes.vendas_api.dto.request.VendedorRequest;
+import com.joaoMendes.vendas_api.dto.response.CacheEstatisticasResponse;
+import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import com.joaoMendes.vendas_api.dto.response.PaginaResponse;
 import com.joaoMendes.vendas_api.dto.response.VendedorResponse;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -32,6 +46,9 @@ class VendedorControllerTest {
     @MockitoBean
     private VendedorService vendedorService;
 
+    @MockitoBean
+    private VendaService vendaService;
+
     @Autowired
     private ObjectMapper mapper;
 
@@ -118,6 +135,38 @@ class VendedorControllerTest {
         verify(vendedorService).getById(ID_VENDEDOR);
     }
 
+    @Test
+    void dadoIfNoneMatchAtual_quandoBuscarPorId_entaoRetornar304() throws Exception {
+        given(vendedorService.getETag(ID_VENDEDOR)).willReturn("4");
+
+        mockMvc.perform(get("/vendedores/{id}", ID_VENDEDOR).header("If-None-Match", "\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        verify(vendedorService, never()).getById(any());
+    }
+
+    @Test
+    void dadoIfNoneMatchDaColecaoAtual_quandoListar_entaoRetornar304() throws Exception {
+        given(vendedorService.getETagColecao()).willReturn("2-51-3");
+
+        mockMvc.perform(get("/vendedores").header("If-None-Match", "\"2-51-3\""))
+                .andExpect(status().isNotModified());
+
+        verify(vendedorService, never()).getAll();
+    }
+
+    @Test
+    void dadoIfNoneMatchDesatualizado_quandoListar_entaoRetornar200ComNovaETag() throws Exception {
+        given(vendedorService.getETagColecao()).willReturn("2-51-4");
+        given(vendedorService.getAll()).willReturn(List.of(vendedorResponse));
+
+        mockMvc.perform(get("/vendedores").header("If-None-Match", "\"2-51-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"2-51-4\""))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
     @Test
     void dadoIdInexistente_quandoBuscarPorId_entaoRetornarVendedorNotFoundException404() throws Exception {
 
@@ -162,7 +211,7 @@ class VendedorControllerTest {
         VendedorRequest request = new VendedorRequest("NOVO_NOME");
         VendedorResponse response = new VendedorResponse(id, "NOVO_NOME");
 
-        given(vendedorService.update(eq(id), any(VendedorRequest.class)))
+        given(vendedorService.update(eq(id), any(VendedorRequest.class), any()))
                 .willReturn(response);
 
         ResultActions resposta = mockMvc.perform(
@@ -175,7 +224,7 @@ class VendedorControllerTest {
                 .andExpect(jsonPath("$.id").value(id))
                 .andExpect(jsonPath("$.nome").value("NOVO_NOME"));
 
-        verify(vendedorService).update(eq(id), any(VendedorRequest.class));
+        verify(vendedorService).update(eq(id), any(VendedorRequest.class), any());
     }
 
     @Test
@@ -192,14 +241,14 @@ class VendedorControllerTest {
 
         resposta.andExpect(status().isBadRequest());
 
-        verify(vendedorService, never()).update(anyLong(), any(VendedorRequest.class));
+        verify(vendedorService, never()).update(anyLong(), any(VendedorRequest.class), any());
     }
 
     @Test
     void dadoIdInvalido_quandoAtualizar_entaoRetornarVendedorNotFoundException404() throws Exception {
         VendedorRequest request = new VendedorRequest("NOVO_NOME");
 
-        given(vendedorService.update(eq(ID_VENDEDOR_INEXISTENTE), any(VendedorRequest.class)))
+        given(vendedorService.update(eq(ID_VENDEDOR_INEXISTENTE), any(VendedorRequest.class), any()))
                 .willThrow(new VendedorNotFoundException(ID_VENDEDOR_INEXISTENTE));
 
         ResultActions resposta = mockMvc.perform(
@@ -208,7 +257,132 @@ class VendedorControllerTest {
                         .content(mapper.writeValueAsString(request))
         );
         resposta.andExpect(status().isNotFound());
-        verify(vendedorService, never()).update(ID_VENDEDOR_INEXISTENTE, request);
+        verify(vendedorService, never()).update(ID_VENDEDOR_INEXISTENTE, request, null);
+
+    }
+
+    @Test
+    void dadoCacheComUso_quandoConsultarEstatisticas_entaoRetornar200() throws Exception {
+        given(vendedorService.getEstatisticasCache()).willReturn(List.of(
+                new CacheEstatisticasResponse("vendedorPorId", 1L, 3L, 2L, 0L)
+        ));
+
+        ResultActions resposta = mockMvc.perform(get("/vendedores/cache"));
+
+        resposta.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].cache").value("vendedorPorId"))
+                .andExpect(jsonPath("$[0].hits").value(3))
+                .andExpect(jsonPath("$[0].misses").value(2));
+    }
+
+    @Test
+    void dadoPeriodoValido_quandoConsultarRanking_entaoRetornar200() throws Exception {
+        LocalDate inicio = LocalDate.of(2025, 1, 1);
+        LocalDate fim = LocalDate.of(2025, 1, 10);
+        given(vendaService.getRanking(any(MediaPorPeriodoRequest.class), eq(3))).willReturn(List.of(
+                new MediaPorPeriodoResponse(ID_VENDEDOR, NOME_VENDEDOR, new BigDecimal("100.00"),
+                        new BigDecimal("10.00"), inicio, fim, 10L, 4L)
+        ));
+
+        ResultActions resposta = mockMvc.perform(get("/vendedores/ranking")
+                .param("dataInicio", "01/01/2025")
+                .param("dataFim", "10/01/2025")
+                .param("limit", "3"));
+
+        resposta.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].idVendedor").value(ID_VENDEDOR))
+                .andExpect(jsonPath("$[0].totalVendido").value(100.00))
+                .andExpect(jsonPath("$[0].mediaDiaria").value(10.00))
+                .andExpect(jsonPath("$[0].quantidadeVendas").value(4));
+    }
+
+    @Test
+    void dadoLimiteInvalido_quandoConsultarRanking_entaoRetornar400() throws Exception {
+        given(vendaService.getRanking(any(MediaPorPeriodoRequest.class), eq(0)))
+                .willThrow(new IllegalArgumentException("O limite deve estar entre 1 e 1000."));
+
+        ResultActions resposta = mockMvc.perform(get("/vendedores/ranking")
+                .param("dataInicio", "01/01/2025")
+                .param("dataFim", "10/01/2025")
+                .param("limit", "0"));
+
+        resposta.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void dadoIdInexistente_quandoBuscarPorId_entaoContarErroNaMetrica() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            given(vendedorService.getById(ID_VENDEDOR_INEXISTENTE))
+                    .willThrow(new VendedorNotFoundException(ID_VENDEDOR_INEXISTENTE));
+
+            mockMvc.perform(get("/vendedores/{id}", ID_VENDEDOR_INEXISTENTE))
+                    .andExpect(status().isNotFound());
+
+            assertEquals(1.0, registry.get("vendas.api.erros")
+                    .tag("excecao", "VendedorNotFoundException")
+                    .tag("status", "404")
+                    .counter()
+                    .count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    void dadoTamanhoEPrefixo_quandoListarPaginado_entaoRetornarPagina200() throws Exception {
+        given(vendedorService.getPagina("no", 0, 5, "nome", "asc"))
+                .willReturn(new PaginaResponse<>(List.of(vendedorResponse), 0, 5, 1L, 1));
+
+        ResultActions resposta = mockMvc.perform(get("/vendedores")
+                .param("prefixo", "no")
+                .param("tamanho", "5"));
+
+        resposta.andExpect(status().isOk())
+                .andExpect(jsonPath("$.conteudo[0].nome").value(NOME_VENDEDOR))
+                .andExpect(jsonPath("$.totalElementos").value(1))
+                .andExpect(jsonPath("$.totalPaginas").value(1));
+
+        verify(vendedorService, never()).getAll();
+    }
+
+    @Test
+    void dadoOrdenacaoInvalida_quandoListarPaginado_entaoRetornar400() throws Exception {
+        given(vendedorService.getPagina(null, 0, 5, "salario", "asc"))
+                .willThrow(new IllegalArgumentException("Ordenação inválida. Valores aceitos: id, nome."));
+
+        ResultActions resposta = mockMvc.perform(get("/vendedores")
+                .param("tamanho", "5")
+                .param("ordenacao", "salario"));
+
+        resposta.andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensagem").value("Ordenação inválida. Valores aceitos: id, nome."));
+    }
+
+    @Test
+    void dadoNomeDuplicado_quandoCriarVendedor_entaoRetornar409() throws Exception {
+        given(vendedorService.create(any(VendedorRequest.class)))
+                .willThrow(new DataIntegrityViolationException("duplicado", new ConstraintViolationException(
+                        "duplicado", new SQLException(), "PUBLIC.UK_VENDEDOR_NOME_NORMALIZADO_INDEX_A")));
+
+        ResultActions resposta = mockMvc.perform(post("/vendedores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(vendedorRequest)));
+
+        resposta.andExpect(status().isConflict())
+                .andExpect(jsonPath("$.mensagem").value("Já existe um vendedor com esse nome"));
+    }
+
+    @Test
+    void dadoOutraViolacaoDeIntegridade_quandoCriarVendedor_entaoRetornar500() throws Exception {
+        given(vendedorService.create(any(VendedorRequest.class)))
+                .willThrow(new DataIntegrityViolationException("erro"));
+
+        ResultActions resposta = mockMvc.perform(post("/vendedores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(vendedorRequest)));
 
+        resposta.andExpect(status().isInternalServerError());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.joaoMendes.vendas_api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+import com.joaoMendes.vendas_api.domain.service.VendedorService;
+import com.joaoMendes.vendas_api.dto.request.VendedorRequest;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:vendedorNomeDuplicado;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class VendedorNomeDuplicadoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private VendedorService vendedorService;
+
+    @Test
+    void dadoNomesQueNormalizamParaOMesmoValor_quandoCriarVendedor_entaoRetornar409() throws Exception {
+        mockMvc.perform(post("/vendedores")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(new VendedorRequest("Ana Souza"))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/vendedores")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(new VendedorRequest("ana  souza!"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.mensagem").value("Já existe um vendedor com esse nome"));
+    }
+
+    @Test
+    void nomeDuplicadoNoH2InformaARestricaoDoNomeNormalizado() {
+        vendedorService.create(new VendedorRequest("Bruno Lima"));
+
+        DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class,
+                () -> vendedorService.create(new VendedorRequest("BRUNO lima")));
+
+        ConstraintViolationException violacao = assertInstanceOf(ConstraintViolationException.class, ex.getCause());
+        assertTrue(violacao.getConstraintName().toLowerCase(Locale.ROOT).contains(Vendedor.UK_NOME_NORMALIZADO),
+                violacao.getConstraintName());
+    }
+}
@@ -0,0 +1,120 @@
+package com.joaoMendes.vendas_api.domain.cache;
+
+import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MediaPorPeriodoCacheTest {
+
+    private static final Long ID_VENDEDOR = 1L;
+    private static final LocalDate INICIO = LocalDate.of(2025, 11, 1);
+    private static final LocalDate FIM = LocalDate.of(2025, 11, 10);
+
+    private final AtomicInteger calculos = new AtomicInteger();
+
+    private MediaPorPeriodoResponse media(long quantidade) {
+        calculos.incrementAndGet();
+        return new MediaPorPeriodoResponse(ID_VENDEDOR, "João", BigDecimal.TEN, BigDecimal.ONE,
+                INICIO, FIM, 10L, quantidade);
+    }
+
+    @Test
+    void dadoChamadasConcorrentesIguais_quandoBuscar_entaoCalculaUmaVez() throws Exception {
+        MediaPorPeriodoCache cache = new MediaPorPeriodoCache(100, Duration.ZERO);
+        CountDownLatch iniciado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            Future<MediaPorPeriodoResponse> primeira = executor.submit(() -> cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> {
+                iniciado.countDown();
+                await(liberar);
+                return media(1L);
+            }));
+            assertTrue(iniciado.await(5, TimeUnit.SECONDS));
+
+            List<Future<MediaPorPeriodoResponse>> demais = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                demais.add(executor.submit(() -> cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> media(2L))));
+            }
+            Thread.sleep(100);
+            liberar.countDown();
+
+            assertEquals(1L, primeira.get(5, TimeUnit.SECONDS).quantidadeVendas());
+            for (Future<MediaPorPeriodoResponse> resultado : demais) {
+                assertEquals(1L, resultado.get(5, TimeUnit.SECONDS).quantidadeVendas());
+            }
+            assertEquals(1, calculos.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void dadoTtlZero_quandoBuscarEmSequencia_entaoRecalcula() {
+        MediaPorPeriodoCache cache = new MediaPorPeriodoCache(100, Duration.ZERO);
+
+        cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> media(1L));
+        cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> media(1L));
+
+        assertEquals(2, calculos.get());
+    }
+
+    @Test
+    void dadoInvalidacaoDuranteCalculo_quandoBuscarDepois_entaoNaoUsaResultadoAntigo() {
+        MediaPorPeriodoCache cache = new MediaPorPeriodoCache(100, Duration.ofMinutes(1));
+
+        cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> {
+            cache.invalidar(ID_VENDEDOR);
+            return media(1L);
+        });
+        MediaPorPeriodoResponse depois = cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> media(2L));
+
+        assertEquals(2L, depois.quantidadeVendas());
+        assertEquals(2L, cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> media(3L)).quantidadeVendas());
+    }
+
+    @Test
+    void dadoInvalidacaoDeOutroVendedor_quandoBuscar_entaoUsaCache() {
+        MediaPorPeriodoCache cache = new MediaPorPeriodoCache(100, Duration.ofMinutes(1));
+
+        cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> media(1L));
+        cache.invalidar(2L);
+        cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> media(2L));
+
+        assertEquals(1, calculos.get());
+    }
+
+    @Test
+    void dadoCalculoComErro_quandoBuscar_entaoPropagaENaoGuarda() {
+        MediaPorPeriodoCache cache = new MediaPorPeriodoCache(100, Duration.ofMinutes(1));
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> {
+                    throw new IllegalStateException("falha");
+                }));
+
+        assertEquals(1L, cache.buscar(ID_VENDEDOR, INICIO, FIM, () -> media(1L)).quantidadeVendas());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
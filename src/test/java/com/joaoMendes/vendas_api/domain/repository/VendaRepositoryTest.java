@@ -0,0 +1,156 @@
+package com.joaoMendes.vendas_api.domain.repository;
+
+import com.joaoMendes.vendas_api.domain.entities.Venda;
+import com.joaoMendes.vendas_api.domain.entities.VendaDiaria;
+import com.joaoMendes.vendas_api.domain.entities.VendaDiariaId;
+import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+import com.joaoMendes.vendas_api.domain.repository.projection.VendaDiariaProjection;
+import com.joaoMendes.vendas_api.domain.service.VendaDiariaService;
+import com.joaoMendes.vendas_api.domain.service.VersaoVendasService;
+import com.joaoMendes.vendas_api.dto.response.VerificacaoVendaDiariaResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false)
+@Import({VendaDiariaService.class, VersaoVendasService.class})
+class VendaRepositoryTest {
+
+    private static final LocalDate DIA = LocalDate.of(2025, 5, 1);
+
+    @Autowired
+    private VendaRepository vendaRepository;
+
+    @Autowired
+    private VendaDiariaRepository vendaDiariaRepository;
+
+    @Autowired
+    private VendaDiariaService vendaDiariaService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Vendedor vendedor;
+    private Vendedor outroVendedor;
+    private Venda primeiraDoDia;
+    private Venda segundaDoDia;
+    private Venda diaSeguinte;
+    private Venda deOutroVendedor;
+
+    @BeforeEach
+    void setup() {
+        vendedor = entityManager.persist(new Vendedor(null, "Ana"));
+        outroVendedor = entityManager.persist(new Vendedor(null, "Bruno"));
+
+        primeiraDoDia = entityManager.persist(new Venda(null, DIA, new BigDecimal("10.00"), vendedor));
+        segundaDoDia = entityManager.persist(new Venda(null, DIA, new BigDecimal("25.50"), vendedor));
+        diaSeguinte = entityManager.persist(new Venda(null, DIA.plusDays(1), new BigDecimal("7.00"), vendedor));
+        deOutroVendedor = entityManager.persist(new Venda(null, DIA, new BigDecimal("99.00"), outroVendedor));
+
+        vendaDiariaService.registrarTodas(List.of(primeiraDoDia, segundaDoDia, diaSeguinte, deOutroVendedor));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private VendaDiaria dia(Vendedor dono, LocalDate data) {
+        return vendaDiariaRepository.findById(new VendaDiariaId(dono.getId(), data)).orElse(null);
+    }
+
+    @Test
+    void resumirEExcluirPorIdsDevolveTotaisPorVendedorEDiaEDescontaNoConsolidado() {
+        List<Long> ids = List.of(primeiraDoDia.getId(), diaSeguinte.getId());
+        List<VendaDiariaProjection> dias = vendaRepository.resumirPorIds(ids).stream()
+                .sorted(Comparator.comparing(VendaDiariaProjection::getDataVenda))
+                .toList();
+
+        assertEquals(2, dias.size());
+        assertEquals(vendedor.getId(), dias.get(0).getIdVendedor());
+        assertEquals(DIA, dias.get(0).getDataVenda());
+        assertEquals(0, new BigDecimal("10.00").compareTo(dias.get(0).getTotal()));
+        assertEquals(1L, dias.get(0).getQuantidade());
+        assertEquals(DIA.plusDays(1), dias.get(1).getDataVenda());
+        assertEquals(0, new BigDecimal("7.00").compareTo(dias.get(1).getTotal()));
+
+        assertEquals(2, vendaRepository.excluirPorIds(ids));
+        vendaDiariaService.descontar(dias);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertFalse(vendaRepository.existsById(primeiraDoDia.getId()));
+        assertFalse(vendaRepository.existsById(diaSeguinte.getId()));
+        assertTrue(vendaRepository.existsById(segundaDoDia.getId()));
+
+        VendaDiaria restante = dia(vendedor, DIA);
+        assertEquals(0, new BigDecimal("25.50").compareTo(restante.getTotal()));
+        assertEquals(1L, restante.getQuantidade());
+        assertNull(dia(vendedor, DIA.plusDays(1)));
+        assertEquals(0, new BigDecimal("99.00").compareTo(dia(outroVendedor, DIA).getTotal()));
+    }
+
+    @Test
+    void excluirPorIdsLimpaOContextoDePersistencia() {
+        Venda carregada = vendaRepository.findById(primeiraDoDia.getId()).orElseThrow();
+
+        assertEquals(1, vendaRepository.excluirPorIds(List.of(carregada.getId())));
+
+        assertFalse(entityManager.getEntityManager().contains(carregada));
+        assertTrue(vendaRepository.findById(carregada.getId()).isEmpty());
+    }
+
+    @Test
+    void idsInexistentesNaoResumemNemExcluemNada() {
+        assertTrue(vendaRepository.resumirPorIds(List.of(-1L)).isEmpty());
+        assertEquals(0, vendaRepository.excluirPorIds(List.of(-1L)));
+        assertEquals(4, vendaRepository.count());
+    }
+
+    @Test
+    void resumirEExcluirPorVendedorEPeriodoAfetaSoAsVendasDoVendedorNoPeriodoEDescontaNoConsolidado() {
+        List<VendaDiariaProjection> dias = vendaRepository.resumirPorVendedorEPeriodo(vendedor.getId(), DIA, DIA);
+
+        assertEquals(1, dias.size());
+        assertEquals(vendedor.getId(), dias.get(0).getIdVendedor());
+        assertEquals(DIA, dias.get(0).getDataVenda());
+        assertEquals(0, new BigDecimal("35.50").compareTo(dias.get(0).getTotal()));
+        assertEquals(2L, dias.get(0).getQuantidade());
+
+        assertEquals(2, vendaRepository.excluirPorVendedorEPeriodo(vendedor.getId(), DIA, DIA));
+        vendaDiariaService.descontar(dias);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(List.of(diaSeguinte.getId(), deOutroVendedor.getId()),
+                vendaRepository.findAll().stream().map(Venda::getId).sorted().toList());
+        assertNull(dia(vendedor, DIA));
+        assertEquals(1L, dia(vendedor, DIA.plusDays(1)).getQuantidade());
+        assertEquals(1L, dia(outroVendedor, DIA).getQuantidade());
+    }
+
+    @Test
+    void verificarComCorrecaoAlinhaOConsolidadoComAsVendas() {
+        vendaDiariaRepository.remover(vendedor.getId(), DIA.plusDays(1));
+        vendaDiariaRepository.definir(outroVendedor.getId(), DIA, new BigDecimal("1.00"), 5L);
+        vendaDiariaRepository.inserir(outroVendedor.getId(), DIA.minusDays(3), new BigDecimal("4.00"), 1L);
+
+        VerificacaoVendaDiariaResponse corrigida = vendaDiariaService.verificar(true);
+        VerificacaoVendaDiariaResponse conferida = vendaDiariaService.verificar(false);
+        entityManager.clear();
+
+        assertEquals(3L, corrigida.diasVerificados());
+        assertEquals(3L, corrigida.totalDivergencias());
+        assertEquals(0L, conferida.totalDivergencias());
+        assertEquals(1L, dia(vendedor, DIA.plusDays(1)).getQuantidade());
+        assertEquals(0, new BigDecimal("99.00").compareTo(dia(outroVendedor, DIA).getTotal()));
+        assertNull(dia(outroVendedor, DIA.minusDays(3)));
+    }
+}
@@ -0,0 +1,198 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.domain.exception.JobNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.PeriodoInvalidoException;
+import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.dto.request.MediaPorPeriodoRequest;
+import com.joaoMendes.vendas_api.dto.response.JobEstatisticaResponse;
+import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import com.joaoMendes.vendas_api.dto.response.StatusJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EstatisticaJobServiceTest {
+
+    @Mock
+    private VendaService vendaService;
+
+    @Mock
+    private VendedorService vendedorService;
+
+    private EstatisticaJobService estatisticaJobService;
+
+    private final LocalDate inicio = LocalDate.of(2025, 11, 1);
+    private final LocalDate fim = LocalDate.of(2025, 11, 10);
+    private final MediaPorPeriodoResponse media = new MediaPorPeriodoResponse(
+            1L, "João", new BigDecimal("100.00"), new BigDecimal("10.00"), inicio, fim, 10L, 1L);
+
+    @BeforeEach
+    void setUp() {
+        estatisticaJobService = new EstatisticaJobService(1, 1, Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(estatisticaJobService, "vendaService", vendaService);
+        ReflectionTestUtils.setField(estatisticaJobService, "vendedorService", vendedorService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        estatisticaJobService.encerrar();
+    }
+
+    private JobEstatisticaResponse aguardar(Long idVendedor, String id) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        JobEstatisticaResponse job = estatisticaJobService.getById(idVendedor, id);
+        while (job.status() != StatusJob.CONCLUIDO && job.status() != StatusJob.FALHA && System.nanoTime() < limite) {
+            Thread.sleep(10);
+            job = estatisticaJobService.getById(idVendedor, id);
+        }
+        return job;
+    }
+
+    @Test
+    void dadoPeriodoValido_quandoIniciar_entaoJobConcluiComResultado() throws InterruptedException {
+        when(vendaService.calcularMediaPorPeriodo(eq(1L), any(MediaPorPeriodoRequest.class))).thenReturn(media);
+
+        JobEstatisticaResponse criado = estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim));
+        JobEstatisticaResponse concluido = aguardar(1L, criado.id());
+
+        assertNotNull(criado.id());
+        assertEquals(StatusJob.CONCLUIDO, concluido.status());
+        assertEquals(media, concluido.resultado());
+        assertNotNull(concluido.concluidoEm());
+        assertNull(concluido.erro());
+    }
+
+    @Test
+    void dadoJobEmAndamento_quandoIniciarMesmoPeriodo_entaoReutilizaMesmoJob() throws InterruptedException {
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(vendaService.calcularMediaPorPeriodo(eq(1L), any(MediaPorPeriodoRequest.class))).thenAnswer(invocation -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return media;
+        });
+
+        JobEstatisticaResponse primeiro = estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim));
+        JobEstatisticaResponse segundo = estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim));
+        liberar.countDown();
+
+        assertEquals(primeiro.id(), segundo.id());
+        assertEquals(StatusJob.CONCLUIDO, aguardar(1L, primeiro.id()).status());
+        verify(vendaService, times(1)).calcularMediaPorPeriodo(eq(1L), any(MediaPorPeriodoRequest.class));
+    }
+
+    @Test
+    void dadoJobMaisLongoQueARetencao_quandoGetById_entaoRetencaoContaDoFim() throws InterruptedException {
+        estatisticaJobService.encerrar();
+        estatisticaJobService = new EstatisticaJobService(1, 1, Duration.ofMillis(200));
+        ReflectionTestUtils.setField(estatisticaJobService, "vendaService", vendaService);
+        ReflectionTestUtils.setField(estatisticaJobService, "vendedorService", vendedorService);
+
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(vendaService.calcularMediaPorPeriodo(eq(1L), any(MediaPorPeriodoRequest.class))).thenAnswer(invocation -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return media;
+        });
+
+        JobEstatisticaResponse criado = estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim));
+        Thread.sleep(400);
+
+        assertEquals(StatusJob.EXECUTANDO, estatisticaJobService.getById(1L, criado.id()).status());
+        assertEquals(criado.id(), estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim)).id());
+
+        liberar.countDown();
+        assertEquals(StatusJob.CONCLUIDO, aguardar(1L, criado.id()).status());
+
+        Thread.sleep(400);
+        assertThrows(JobNotFoundException.class, () -> estatisticaJobService.getById(1L, criado.id()));
+    }
+
+    @Test
+    void dadoJobConcluido_quandoIniciarMesmoPeriodo_entaoCriaNovoJob() throws InterruptedException {
+        when(vendaService.calcularMediaPorPeriodo(eq(1L), any(MediaPorPeriodoRequest.class))).thenReturn(media);
+
+        JobEstatisticaResponse primeiro = estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim));
+        aguardar(1L, primeiro.id());
+        JobEstatisticaResponse segundo = estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim));
+
+        assertNotEquals(primeiro.id(), segundo.id());
+    }
+
+    @Test
+    void dadoCalculoComErro_quandoIniciar_entaoJobFalhaComMensagem() throws InterruptedException {
+        when(vendaService.calcularMediaPorPeriodo(eq(1L), any(MediaPorPeriodoRequest.class)))
+                .thenThrow(new IllegalStateException("Falha no cálculo"));
+
+        JobEstatisticaResponse criado = estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim));
+        JobEstatisticaResponse falha = aguardar(1L, criado.id());
+
+        assertEquals(StatusJob.FALHA, falha.status());
+        assertEquals("Falha no cálculo", falha.erro());
+        assertNull(falha.resultado());
+    }
+
+    @Test
+    void dadoPeriodoInvertido_quandoIniciar_entaoLancaExcecaoSemCriarJob() {
+        assertThrows(PeriodoInvalidoException.class,
+                () -> estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(fim, inicio)));
+
+        verifyNoInteractions(vendedorService, vendaService);
+    }
+
+    @Test
+    void dadoVendedorInexistente_quandoIniciar_entaoLancaExcecaoSemCriarJob() {
+        when(vendedorService.getById(99L)).thenThrow(new VendedorNotFoundException(99L));
+
+        assertThrows(VendedorNotFoundException.class,
+                () -> estatisticaJobService.iniciar(99L, new MediaPorPeriodoRequest(inicio, fim)));
+
+        verifyNoInteractions(vendaService);
+    }
+
+    @Test
+    void dadoJobDeOutroVendedor_quandoGetById_entaoLancaExcecao() throws InterruptedException {
+        when(vendaService.calcularMediaPorPeriodo(eq(1L), any(MediaPorPeriodoRequest.class))).thenReturn(media);
+
+        JobEstatisticaResponse criado = estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim));
+        aguardar(1L, criado.id());
+
+        assertThrows(JobNotFoundException.class, () -> estatisticaJobService.getById(2L, criado.id()));
+        assertThrows(JobNotFoundException.class, () -> estatisticaJobService.getById(1L, "inexistente"));
+    }
+
+    @Test
+    void dadoFilaCheia_quandoIniciar_entaoRejeitaEPermiteNovaTentativa() throws InterruptedException {
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(vendaService.calcularMediaPorPeriodo(any(), any(MediaPorPeriodoRequest.class))).thenAnswer(invocation -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return media;
+        });
+
+        JobEstatisticaResponse executando = estatisticaJobService.iniciar(1L, new MediaPorPeriodoRequest(inicio, fim));
+        JobEstatisticaResponse enfileirado = estatisticaJobService.iniciar(2L, new MediaPorPeriodoRequest(inicio, fim));
+
+        assertThrows(TaskRejectedException.class,
+                () -> estatisticaJobService.iniciar(3L, new MediaPorPeriodoRequest(inicio, fim)));
+
+        liberar.countDown();
+        aguardar(1L, executando.id());
+        aguardar(2L, enfileirado.id());
+        JobEstatisticaResponse novaTentativa = estatisticaJobService.iniciar(3L, new MediaPorPeriodoRequest(inicio, fim));
+        assertEquals(StatusJob.CONCLUIDO, aguardar(3L, novaTentativa.id()).status());
+    }
+}
@@ -0,0 +1,126 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.domain.cache.ChaveIdempotenciaCache;
+import com.joaoMendes.vendas_api.domain.entities.ChaveIdempotencia;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaReutilizadaException;
+import com.joaoMendes.vendas_api.domain.repository.ChaveIdempotenciaRepository;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import com.joaoMendes.vendas_api.mapper.VendaMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotenciaServiceTest {
+
+    @Mock
+    private VendaService vendaService;
+
+    @Mock
+    private ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+
+    @Mock
+    private VendaMapper mapper;
+
+    @Spy
+    private ChaveIdempotenciaCache chaveIdempotenciaCache = new ChaveIdempotenciaCache(100, Duration.ofHours(1));
+
+    @InjectMocks
+    private IdempotenciaService idempotenciaService;
+
+    private VendaRequest vendaRequest;
+    private VendaResponse vendaResponse;
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(idempotenciaService, "ttl", Duration.ofHours(24));
+
+        vendaRequest = new VendaRequest(LocalDate.of(2025, 11, 20), new BigDecimal("500.00"), 10L);
+        vendaResponse = new VendaResponse(1L, vendaRequest.getDataVenda(), vendaRequest.getValor(), 10L, "Nome");
+    }
+
+    private ChaveIdempotencia registrarNoCache(String hash) {
+        ChaveIdempotencia registro = new ChaveIdempotencia("chave-1", hash,
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1));
+        registro.registrarResposta(vendaResponse);
+        chaveIdempotenciaCache.registrar(registro);
+        return registro;
+    }
+
+    @Test
+    void createQuandoChaveNaoEstaNoCacheDelegaAoVendaServiceComExpiracaoPeloTtl() {
+        when(vendaService.createIdempotente(eq("chave-1"), anyString(), any(), eq(vendaRequest)))
+                .thenReturn(new RespostaIdempotente(vendaResponse, false));
+
+        LocalDateTime antes = LocalDateTime.now();
+        RespostaIdempotente result = idempotenciaService.create("chave-1", vendaRequest);
+
+        assertFalse(result.repetida());
+        ArgumentCaptor<LocalDateTime> expiraEm = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(vendaService).createIdempotente(eq("chave-1"), anyString(), expiraEm.capture(), eq(vendaRequest));
+        assertFalse(expiraEm.getValue().isBefore(antes.plusHours(24)));
+    }
+
+    @Test
+    void createQuandoChaveEstaNoCacheRetornaRespostaSemChamarVendaService() {
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(vendaService.createIdempotente(eq("chave-1"), hash.capture(), any(), eq(vendaRequest)))
+                .thenReturn(new RespostaIdempotente(vendaResponse, false));
+        idempotenciaService.create("chave-1", vendaRequest);
+
+        ChaveIdempotencia registro = registrarNoCache(hash.getValue());
+        when(mapper.toResponseIdempotente(registro)).thenReturn(vendaResponse);
+
+        RespostaIdempotente result = idempotenciaService.create("chave-1",
+                new VendaRequest(vendaRequest.getDataVenda(), new BigDecimal("500.0"), 10L));
+
+        assertTrue(result.repetida());
+        assertEquals(vendaResponse, result.venda());
+        verify(vendaService, times(1)).createIdempotente(any(), any(), any(), any());
+    }
+
+    @Test
+    void createQuandoCorpoDifereDoRegistradoLancaChaveIdempotenciaReutilizadaException() {
+        registrarNoCache("outro-hash");
+
+        assertThrows(ChaveIdempotenciaReutilizadaException.class,
+                () -> idempotenciaService.create("chave-1", vendaRequest));
+
+        verifyNoInteractions(vendaService);
+    }
+
+    @Test
+    void createQuandoChaveInvalidaLancaIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotenciaService.create(" ", vendaRequest));
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotenciaService.create("x".repeat(ChaveIdempotencia.TAMANHO_MAXIMO_CHAVE + 1), vendaRequest));
+
+        verifyNoInteractions(vendaService);
+    }
+
+    @Test
+    void excluirExpiradasRemoveRegistrosVencidos() {
+        idempotenciaService.excluirExpiradas();
+
+        verify(chaveIdempotenciaRepository).excluirExpiradas(any(LocalDateTime.class));
+    }
+}
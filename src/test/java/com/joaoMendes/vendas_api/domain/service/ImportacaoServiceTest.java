@@ -0,0 +1,248 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.domain.entities.Importacao;
+import com.joaoMendes.vendas_api.domain.entities.RejeicaoImportacao;
+import com.joaoMendes.vendas_api.domain.entities.StatusImportacao;
+import com.joaoMendes.vendas_api.domain.exception.ImportacaoNotFoundException;
+import com.joaoMendes.vendas_api.domain.repository.ImportacaoRepository;
+import com.joaoMendes.vendas_api.domain.repository.RejeicaoImportacaoRepository;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.ImportacaoResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteErroResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteResponse;
+import com.joaoMendes.vendas_api.mapper.ImportacaoMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportacaoServiceTest {
+
+    @Mock
+    private ImportacaoRepository importacaoRepository;
+
+    @Mock
+    private RejeicaoImportacaoRepository rejeicaoImportacaoRepository;
+
+    @Mock
+    private VendaService vendaService;
+
+    @Spy
+    private ImportacaoMapper mapper;
+
+    @InjectMocks
+    private ImportacaoService importacaoService;
+
+    @TempDir
+    private Path diretorio;
+
+    private final String CSV = "dataVenda,valor,idVendedor\n10/11/2025,100.50,1\n11/11/2025,20,2\n";
+
+    @BeforeEach
+    void setup() {
+        ReflectionTestUtils.setField(importacaoService, "diretorio", diretorio);
+    }
+
+    private MockMultipartFile arquivo(String conteudo) {
+        return new MockMultipartFile("arquivo", "vendas.csv", "text/csv", conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private LinhaImportacao linhaValida(long numero, long idVendedor) {
+        VendaRequest request = new VendaRequest(LocalDate.of(2025, 11, 10), new BigDecimal("10.00"), idVendedor);
+        return new LinhaImportacao(numero, request, List.of());
+    }
+
+    @Test
+    void receberGuardaArquivoPeloHashECriaImportacao() throws Exception {
+        when(importacaoRepository.findByHash(any())).thenReturn(Optional.empty());
+        when(importacaoRepository.save(any(Importacao.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ImportacaoResponse result = importacaoService.receber(arquivo(CSV));
+
+        assertEquals(StatusImportacao.PROCESSANDO, result.status());
+        assertEquals(2L, result.totalLinhas());
+        assertEquals(0L, result.linhasProcessadas());
+        assertEquals("vendas.csv", result.nomeArquivo());
+        assertEquals(64, result.hash().length());
+        assertEquals(CSV, Files.readString(importacaoService.getArquivo(result.hash())));
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(1, arquivos.count());
+        }
+    }
+
+    @Test
+    void receberArquivoJaConcluidoRetornaImportacaoExistente() throws Exception {
+        Importacao concluida = new Importacao("hash", "vendas.csv", 2);
+        concluida.concluir();
+        when(importacaoRepository.findByHash(any())).thenReturn(Optional.of(concluida));
+
+        ImportacaoResponse result = importacaoService.receber(arquivo(CSV));
+
+        assertEquals(StatusImportacao.CONCLUIDA, result.status());
+        verify(importacaoRepository, never()).save(any());
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(0, arquivos.count());
+        }
+    }
+
+    @Test
+    void receberArquivoEmProcessamentoRetornaImportacaoExistenteSemTocarNoArquivo() throws Exception {
+        Importacao emAndamento = new Importacao("hash", "vendas.csv", 2);
+        emAndamento.registrarBloco(1, 1, 0);
+        when(importacaoRepository.findByHash(any())).thenReturn(Optional.of(emAndamento));
+
+        ImportacaoResponse result = importacaoService.receber(arquivo(CSV));
+
+        assertEquals(StatusImportacao.PROCESSANDO, result.status());
+        assertEquals(1L, result.linhasProcessadas());
+        verify(importacaoRepository, never()).save(any());
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(0, arquivos.count());
+        }
+    }
+
+    @Test
+    void receberComArquivoDoMesmoHashJaArmazenadoReaproveitaOArquivo() throws Exception {
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CSV.getBytes(StandardCharsets.UTF_8)));
+        Path armazenado = Files.writeString(importacaoService.getArquivo(hash), CSV);
+        FileTime modificadoEm = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(armazenado, modificadoEm);
+        when(importacaoRepository.findByHash(hash)).thenReturn(Optional.empty());
+        when(importacaoRepository.save(any(Importacao.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        importacaoService.receber(arquivo(CSV));
+
+        assertEquals(modificadoEm, Files.getLastModifiedTime(armazenado));
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(1, arquivos.count());
+        }
+    }
+
+    @Test
+    void receberArquivoComFalhaRetomaImportacao() throws Exception {
+        Importacao comFalha = new Importacao("hash", "vendas.csv", 2);
+        comFalha.registrarBloco(1, 1, 0);
+        comFalha.falhar("Conexão perdida");
+        when(importacaoRepository.findByHash(any())).thenReturn(Optional.of(comFalha));
+        when(importacaoRepository.save(comFalha)).thenReturn(comFalha);
+
+        ImportacaoResponse result = importacaoService.receber(arquivo(CSV));
+
+        assertEquals(StatusImportacao.PROCESSANDO, result.status());
+        assertEquals(1L, result.linhasProcessadas());
+        assertNull(result.erro());
+    }
+
+    @Test
+    void receberMesmoArquivoEmParaleloRetornaImportacaoCriadaPelaOutraRequisicao() throws Exception {
+        Importacao criadaPelaOutra = new Importacao("hash", "vendas.csv", 2);
+        when(importacaoRepository.findByHash(any()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(criadaPelaOutra));
+        when(importacaoRepository.save(any(Importacao.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_importacao_hash"));
+
+        ImportacaoResponse result = importacaoService.receber(arquivo(CSV));
+
+        assertEquals(StatusImportacao.PROCESSANDO, result.status());
+        assertEquals("hash", result.hash());
+        verify(importacaoRepository, times(2)).findByHash(any());
+    }
+
+    @Test
+    void receberSemColunasObrigatoriasLancaIllegalArgumentException() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> importacaoService.receber(arquivo("a,b\n1,2\n")));
+
+        verifyNoInteractions(importacaoRepository);
+        try (var arquivos = Files.list(diretorio)) {
+            assertEquals(0, arquivos.count());
+        }
+    }
+
+    @Test
+    void registrarBlocoInsereValidasEGravaRejeicoesComNumeroDaLinha() {
+        Importacao importacao = new Importacao("hash", "vendas.csv", 4);
+        LinhaImportacao malFormatada = new LinhaImportacao(3, null, List.of("valor: número inválido."));
+        List<LinhaImportacao> linhas = List.of(linhaValida(2, 1L), malFormatada, linhaValida(4, 99L), linhaValida(5, 1L));
+
+        when(importacaoRepository.findById(1L)).thenReturn(Optional.of(importacao));
+        when(vendaService.createEmLote(any())).thenReturn(new VendaLoteResponse(3, 2,
+                List.of(new VendaLoteErroResponse(1, List.of("Vendedor não encontrado com ID: 99")))));
+
+        importacaoService.registrarBloco(1L, linhas, 4);
+
+        ArgumentCaptor<List<VendaRequest>> requests = ArgumentCaptor.captor();
+        verify(vendaService).createEmLote(requests.capture());
+        assertEquals(List.of(1L, 99L, 1L), requests.getValue().stream().map(VendaRequest::getIdVendedor).toList());
+
+        ArgumentCaptor<List<RejeicaoImportacao>> rejeicoes = ArgumentCaptor.captor();
+        verify(rejeicaoImportacaoRepository).saveAll(rejeicoes.capture());
+        assertEquals(List.of(3L, 4L), rejeicoes.getValue().stream().map(RejeicaoImportacao::getLinha).toList());
+
+        assertEquals(4L, importacao.getLinhasProcessadas());
+        assertEquals(2L, importacao.getInseridas());
+        assertEquals(2L, importacao.getRejeitadas());
+    }
+
+    @Test
+    void registrarBlocoSemLinhasValidasNaoChamaCreateEmLote() {
+        Importacao importacao = new Importacao("hash", "vendas.csv", 1);
+        when(importacaoRepository.findById(1L)).thenReturn(Optional.of(importacao));
+
+        importacaoService.registrarBloco(1L, List.of(new LinhaImportacao(2, null, List.of("erro"))), 1);
+
+        verifyNoInteractions(vendaService);
+        assertEquals(1L, importacao.getRejeitadas());
+    }
+
+    @Test
+    void concluirRemoveArquivoArmazenado() throws Exception {
+        Importacao importacao = new Importacao("hash", "vendas.csv", 2);
+        Files.writeString(importacaoService.getArquivo("hash"), CSV);
+        when(importacaoRepository.findById(1L)).thenReturn(Optional.of(importacao));
+
+        importacaoService.concluir(1L);
+
+        assertEquals(StatusImportacao.CONCLUIDA, importacao.getStatus());
+        assertEquals(2L, importacao.getLinhasProcessadas());
+        assertFalse(Files.exists(importacaoService.getArquivo("hash")));
+    }
+
+    @Test
+    void getRejeicoesComLimiteInvalidoLancaIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> importacaoService.getRejeicoes(1L, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> importacaoService.getRejeicoes(1L, 0, ImportacaoService.LIMITE_MAXIMO_REJEICOES + 1));
+    }
+
+    @Test
+    void getByIdInexistenteLancaImportacaoNotFoundException() {
+        when(importacaoRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ImportacaoNotFoundException.class, () -> importacaoService.getById(1L));
+    }
+}
@@ -0,0 +1,285 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.joaoMendes.vendas_api.domain.exception.IngestaoSobrecarregadaException;
+import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.IngestaoVendaResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestaoVendasExecutorTest {
+
+    @Mock
+    private IngestaoVendasService ingestaoVendasService;
+
+    @Mock
+    private VendedorService vendedorService;
+
+    @TempDir
+    private Path diretorio;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private IngestaoVendasExecutor executor;
+
+    private final VendaRequest request = new VendaRequest(LocalDate.of(2025, 11, 10), new BigDecimal("100.50"), 1L);
+
+    private IngestaoVendasExecutor criar(int capacidade) {
+        return criar(capacidade, DataSize.ofMegabytes(16));
+    }
+
+    private IngestaoVendasExecutor criar(int capacidade, DataSize tamanhoMaximoLog) {
+        executor = new IngestaoVendasExecutor(capacidade, 100, tamanhoMaximoLog, diretorio);
+        ReflectionTestUtils.setField(executor, "ingestaoVendasService", ingestaoVendasService);
+        ReflectionTestUtils.setField(executor, "vendedorService", vendedorService);
+        ReflectionTestUtils.setField(executor, "objectMapper", objectMapper);
+        return executor;
+    }
+
+    private Path log() {
+        return diretorio.resolve(IngestaoVendasExecutor.ARQUIVO_LOG);
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean() && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertTrue(condicao.getAsBoolean());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (executor != null) {
+            executor.encerrar();
+        }
+    }
+
+    @Test
+    void aceitarGravaNoLogAntesDeResponderEGravaNoBancoEmSegundoPlano() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(ingestaoVendasService.getUltimaSequenciaGravada()).thenReturn(0L);
+        when(ingestaoVendasService.gravarGrupo(anyList())).thenAnswer(invocation -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            return new VendaLoteResponse(1, 1, List.of());
+        });
+        criar(10).iniciar();
+
+        IngestaoVendaResponse primeira = executor.aceitar(request);
+        IngestaoVendaResponse segunda = executor.aceitar(request);
+
+        assertEquals(1L, primeira.sequencia());
+        assertEquals(2L, segunda.sequencia());
+        List<String> linhas = Files.readAllLines(log(), StandardCharsets.UTF_8);
+        assertEquals(2, linhas.size());
+        assertTrue(linhas.get(0).contains("\"dataVenda\":\"10/11/2025\""));
+
+        liberar.countDown();
+        aguardar(() -> executor.getStatus().ultimaSequenciaGravada() == 2L);
+        aguardar(() -> {
+            try {
+                return Files.size(log()) == 0;
+            } catch (IOException e) {
+                return false;
+            }
+        });
+        verify(vendedorService, times(2)).getById(1L);
+        verify(ingestaoVendasService, atLeastOnce()).sincronizarBanco();
+    }
+
+    @Test
+    void aceitarConcorrenteGravaCadaVendaUmaVezNoLogENoBanco() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger gravadas = new AtomicInteger();
+        when(ingestaoVendasService.getUltimaSequenciaGravada()).thenReturn(0L);
+        when(ingestaoVendasService.gravarGrupo(anyList())).thenAnswer(invocation -> {
+            liberar.await(5, TimeUnit.SECONDS);
+            gravadas.addAndGet(invocation.<List<RegistroIngestao>>getArgument(0).size());
+            return new VendaLoteResponse(1, 1, List.of());
+        });
+        criar(100).iniciar();
+
+        ExecutorService clientes = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<IngestaoVendaResponse>> respostas = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                respostas.add(clientes.submit(() -> executor.aceitar(request)));
+            }
+
+            List<Long> sequencias = new ArrayList<>();
+            for (Future<IngestaoVendaResponse> resposta : respostas) {
+                sequencias.add(resposta.get(5, TimeUnit.SECONDS).sequencia());
+            }
+            assertEquals(LongStream.rangeClosed(1, 50).boxed().toList(), sequencias.stream().sorted().toList());
+        } finally {
+            clientes.shutdownNow();
+        }
+
+        List<String> linhas = Files.readAllLines(log(), StandardCharsets.UTF_8);
+        assertEquals(50, linhas.size());
+        for (int i = 0; i < linhas.size(); i++) {
+            assertEquals(i + 1L, objectMapper.readValue(linhas.get(i), RegistroIngestao.class).sequencia());
+        }
+        assertEquals(50L, executor.getStatus().ultimaSequenciaAceita());
+
+        liberar.countDown();
+        aguardar(() -> executor.getStatus().ultimaSequenciaGravada() == 50L);
+        assertEquals(50, gravadas.get());
+    }
+
+    @Test
+    void aceitarComFilaCheiaLancaIngestaoSobrecarregadaException() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch gravando = new CountDownLatch(1);
+        when(ingestaoVendasService.getUltimaSequenciaGravada()).thenReturn(0L);
+        when(ingestaoVendasService.gravarGrupo(anyList())).thenAnswer(invocation -> {
+            gravando.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return new VendaLoteResponse(1, 1, List.of());
+        });
+        criar(2).iniciar();
+
+        executor.aceitar(request);
+        assertTrue(gravando.await(5, TimeUnit.SECONDS));
+        executor.aceitar(request);
+        executor.aceitar(request);
+
+        assertThrows(IngestaoSobrecarregadaException.class, () -> executor.aceitar(request));
+        assertEquals(3, Files.readAllLines(log(), StandardCharsets.UTF_8).size());
+
+        liberar.countDown();
+        aguardar(() -> executor.getStatus().pendentes() == 0);
+        assertEquals(4L, executor.aceitar(request).sequencia());
+    }
+
+    @Test
+    void logAcimaDoTamanhoMaximoMantemApenasVendasAindaNaoGravadas() throws Exception {
+        CountDownLatch primeiroGrupo = new CountDownLatch(1);
+        CountDownLatch segundoGrupo = new CountDownLatch(1);
+        AtomicInteger grupos = new AtomicInteger();
+        when(ingestaoVendasService.getUltimaSequenciaGravada()).thenReturn(0L);
+        when(ingestaoVendasService.gravarGrupo(anyList())).thenAnswer(invocation -> {
+            (grupos.incrementAndGet() == 1 ? primeiroGrupo : segundoGrupo).await(5, TimeUnit.SECONDS);
+            return new VendaLoteResponse(1, 1, List.of());
+        });
+        criar(10, DataSize.ofBytes(1)).iniciar();
+
+        executor.aceitar(request);
+        aguardar(() -> grupos.get() == 1);
+        executor.aceitar(request);
+        executor.aceitar(request);
+        primeiroGrupo.countDown();
+        aguardar(() -> grupos.get() == 2);
+
+        List<String> linhas = Files.readAllLines(log(), StandardCharsets.UTF_8);
+        assertEquals(2, linhas.size());
+        assertTrue(linhas.get(0).contains("\"sequencia\":2"));
+        assertTrue(linhas.get(1).contains("\"sequencia\":3"));
+
+        segundoGrupo.countDown();
+        aguardar(() -> executor.getStatus().ultimaSequenciaGravada() == 3L);
+        assertEquals(4L, executor.aceitar(request).sequencia());
+    }
+
+    @Test
+    void falhaAoSincronizarOLogDescartaAsLinhasDoLoteENaoConsomeASequencia() throws Exception {
+        when(ingestaoVendasService.getUltimaSequenciaGravada()).thenReturn(0L);
+        when(ingestaoVendasService.gravarGrupo(anyList())).thenReturn(new VendaLoteResponse(1, 1, List.of()));
+        criar(10).iniciar();
+
+        FileChannel real = (FileChannel) ReflectionTestUtils.getField(executor, "canal");
+        FileChannel canal = mock(FileChannel.class, AdditionalAnswers.delegatesTo(real));
+        AtomicBoolean falhar = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (falhar.get()) {
+                throw new IOException("Disco cheio");
+            }
+            real.force(false);
+            return null;
+        }).when(canal).force(false);
+        ReflectionTestUtils.setField(executor, "canal", canal);
+
+        assertThrows(UncheckedIOException.class, () -> executor.aceitar(request));
+
+        assertEquals(0, Files.size(log()));
+        assertEquals(0L, executor.getStatus().ultimaSequenciaAceita());
+        verify(ingestaoVendasService, never()).gravarGrupo(anyList());
+
+        falhar.set(false);
+        assertEquals(1L, executor.aceitar(request).sequencia());
+        List<String> linhas = Files.readAllLines(log(), StandardCharsets.UTF_8);
+        assertTrue(linhas.isEmpty() || (linhas.size() == 1 && linhas.get(0).contains("\"sequencia\":1")));
+        aguardar(() -> executor.getStatus().ultimaSequenciaGravada() == 1L);
+    }
+
+    @Test
+    void aceitarComVendedorInexistenteNaoGravaNoLog() throws Exception {
+        when(ingestaoVendasService.getUltimaSequenciaGravada()).thenReturn(0L);
+        when(vendedorService.getById(1L)).thenThrow(new VendedorNotFoundException(1L));
+        criar(10).iniciar();
+
+        assertThrows(VendedorNotFoundException.class, () -> executor.aceitar(request));
+
+        assertEquals(0, Files.size(log()));
+        assertEquals(0L, executor.getStatus().ultimaSequenciaAceita());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void iniciarRegravaVendasDoLogAposOCheckpointEContinuaASequencia() throws Exception {
+        Files.writeString(log(), """
+                {"sequencia":1,"dataVenda":"10/11/2025","valor":10,"idVendedor":1}
+                {"sequencia":2,"dataVenda":"10/11/2025","valor":20,"idVendedor":1}
+                {"sequencia":3,"dataVenda":"11/11/2025","valor":30,"idVendedor":2}
+                {"sequencia":4,"dataVe""", StandardCharsets.UTF_8);
+        when(ingestaoVendasService.getUltimaSequenciaGravada()).thenReturn(1L);
+        when(ingestaoVendasService.gravarGrupo(anyList())).thenReturn(new VendaLoteResponse(2, 2, List.of()));
+
+        criar(10).iniciar();
+
+        ArgumentCaptor<List<RegistroIngestao>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ingestaoVendasService).gravarGrupo(captor.capture());
+        assertEquals(List.of(2L, 3L), captor.getValue().stream().map(RegistroIngestao::sequencia).toList());
+        verify(ingestaoVendasService).sincronizarBanco();
+        assertEquals(new BigDecimal("30"), captor.getValue().get(1).valor());
+        assertEquals(0, Files.size(log()));
+        assertEquals(3L, executor.getStatus().ultimaSequenciaGravada());
+        assertEquals(4L, executor.aceitar(request).sequencia());
+    }
+}
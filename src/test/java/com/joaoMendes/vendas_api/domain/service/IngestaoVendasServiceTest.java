@@ -0,0 +1,105 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.domain.entities.ControleIngestao;
+import com.joaoMendes.vendas_api.domain.repository.ControleIngestaoRepository;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteErroResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestaoVendasServiceTest {
+
+    @Mock
+    private ControleIngestaoRepository controleIngestaoRepository;
+
+    @Mock
+    private VendaService vendaService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private IngestaoVendasService ingestaoVendasService;
+
+    private RegistroIngestao registro(long sequencia, long idVendedor) {
+        return new RegistroIngestao(sequencia, LocalDate.of(2025, 11, 10), new BigDecimal("10.00"), idVendedor);
+    }
+
+    @Test
+    void getUltimaSequenciaGravadaSemControleCriaControleZerado() {
+        when(controleIngestaoRepository.findById(IngestaoVendasService.ID_CONTROLE)).thenReturn(Optional.empty());
+        when(controleIngestaoRepository.save(any(ControleIngestao.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertEquals(0L, ingestaoVendasService.getUltimaSequenciaGravada());
+        verify(controleIngestaoRepository).save(any(ControleIngestao.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void gravarGrupoIgnoraSequenciasJaGravadasEAvancaOCheckpoint() {
+        ControleIngestao controle = new ControleIngestao(IngestaoVendasService.ID_CONTROLE);
+        controle.registrarGrupo(2L, 2L, 0L);
+        when(controleIngestaoRepository.findById(IngestaoVendasService.ID_CONTROLE)).thenReturn(Optional.of(controle));
+        when(vendaService.createEmLote(any())).thenReturn(
+                new VendaLoteResponse(2, 1, List.of(new VendaLoteErroResponse(1, List.of("Vendedor não encontrado.")))));
+
+        VendaLoteResponse lote = ingestaoVendasService.gravarGrupo(
+                List.of(registro(2L, 1L), registro(3L, 1L), registro(4L, 9L)));
+
+        ArgumentCaptor<List<VendaRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(vendaService).createEmLote(captor.capture());
+        assertEquals(List.of(1L, 9L), captor.getValue().stream().map(VendaRequest::getIdVendedor).toList());
+        assertEquals(1, lote.inseridas());
+        assertEquals(4L, controle.getUltimaSequencia());
+        assertEquals(3L, controle.getGravadas());
+        assertEquals(1L, controle.getRejeitadas());
+    }
+
+    @Test
+    void gravarGrupoJaGravadoNaoInsereNada() {
+        ControleIngestao controle = new ControleIngestao(IngestaoVendasService.ID_CONTROLE);
+        controle.registrarGrupo(5L, 5L, 0L);
+        when(controleIngestaoRepository.findById(IngestaoVendasService.ID_CONTROLE)).thenReturn(Optional.of(controle));
+
+        VendaLoteResponse lote = ingestaoVendasService.gravarGrupo(List.of(registro(4L, 1L), registro(5L, 1L)));
+
+        assertEquals(0, lote.inseridas());
+        verifyNoInteractions(vendaService);
+        assertEquals(5L, controle.getUltimaSequencia());
+    }
+
+    @Test
+    void sincronizarBancoExecutaComandoConfigurado() {
+        ReflectionTestUtils.setField(ingestaoVendasService, "comandoSincronizacao", "CHECKPOINT SYNC");
+
+        ingestaoVendasService.sincronizarBanco();
+
+        verify(jdbcTemplate).execute("CHECKPOINT SYNC");
+    }
+
+    @Test
+    void sincronizarBancoSemComandoNaoExecutaNada() {
+        ReflectionTestUtils.setField(ingestaoVendasService, "comandoSincronizacao", "");
+
+        ingestaoVendasService.sincronizarBanco();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,118 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeitorImportacaoVendasTest {
+
+    @TempDir
+    private Path diretorio;
+
+    private Path arquivo(String conteudo) throws Exception {
+        return Files.writeString(diretorio.resolve("vendas.csv"), conteudo);
+    }
+
+    @Test
+    void lerBlocoConverteLinhasValidasComNumeroDaLinhaNoArquivo() throws Exception {
+        Path csv = arquivo("dataVenda,valor,idVendedor\n10/11/2025,100.50,1\n\n11/11/2025,20,2\n");
+
+        try (LeitorImportacaoVendas leitor = LeitorImportacaoVendas.abrir(csv)) {
+            List<LinhaImportacao> bloco = leitor.lerBloco(10);
+
+            assertEquals(List.of(2L, 4L), bloco.stream().map(LinhaImportacao::numero).toList());
+            assertEquals(LocalDate.of(2025, 11, 10), bloco.get(0).request().getDataVenda());
+            assertEquals(new BigDecimal("100.50"), bloco.get(0).request().getValor());
+            assertEquals(2L, bloco.get(1).request().getIdVendedor());
+            assertEquals(3, leitor.getLinhasLidas());
+            assertTrue(leitor.lerBloco(10).isEmpty());
+        }
+    }
+
+    @Test
+    void lerBlocoAceitaArquivoDeExportacao() throws Exception {
+        Path csv = arquivo("id,dataVenda,valor,idVendedor,nomeVendedor\n7,10/11/2025,100.50,1,\"Silva, Joao\"\n");
+
+        try (LeitorImportacaoVendas leitor = LeitorImportacaoVendas.abrir(csv)) {
+            LinhaImportacao linha = leitor.lerBloco(10).get(0);
+
+            assertTrue(linha.valida());
+            assertEquals(1L, linha.request().getIdVendedor());
+        }
+    }
+
+    @Test
+    void lerBlocoReportaErrosDeConversao() throws Exception {
+        Path csv = arquivo("dataVenda,valor,idVendedor\n2025-11-10,abc,1\n10/11/2025,5\n");
+
+        try (LeitorImportacaoVendas leitor = LeitorImportacaoVendas.abrir(csv)) {
+            List<LinhaImportacao> bloco = leitor.lerBloco(10);
+
+            assertEquals(List.of("dataVenda: data inválida, use dd/MM/yyyy.", "valor: número inválido."), bloco.get(0).erros());
+            assertEquals(List.of("Quantidade de colunas inválida: esperado 3, encontrado 2."), bloco.get(1).erros());
+            assertNull(bloco.get(0).request());
+        }
+    }
+
+    @Test
+    void lerBlocoJuntaCampoEntreAspasComQuebraDeLinha() throws Exception {
+        Path csv = arquivo("dataVenda,valor,idVendedor,observacao\n"
+                + "10/11/2025,100.50,1,\"entregue na\nloja \"\"centro\"\"\"\n"
+                + "11/11/2025,\"2\n0\",2,\n"
+                + "12/11/2025,3,1,\n");
+
+        try (LeitorImportacaoVendas leitor = LeitorImportacaoVendas.abrir(csv)) {
+            List<LinhaImportacao> bloco = leitor.lerBloco(10);
+
+            assertEquals(List.of(2L, 4L, 6L), bloco.stream().map(LinhaImportacao::numero).toList());
+            assertTrue(bloco.get(0).valida());
+            assertEquals(new BigDecimal("100.50"), bloco.get(0).request().getValor());
+            assertEquals(List.of("valor: número inválido."), bloco.get(1).erros());
+            assertTrue(bloco.get(2).valida());
+            assertEquals(5, leitor.getLinhasLidas());
+        }
+    }
+
+    @Test
+    void lerBlocoRejeitaCampoEntreAspasNaoFechado() throws Exception {
+        Path csv = arquivo("dataVenda,valor,idVendedor\n10/11/2025,1,1\n11/11/2025,\"2,1\n12/11/2025,3,1\n");
+
+        try (LeitorImportacaoVendas leitor = LeitorImportacaoVendas.abrir(csv)) {
+            List<LinhaImportacao> bloco = leitor.lerBloco(10);
+
+            assertEquals(2, bloco.size());
+            assertTrue(bloco.get(0).valida());
+            assertEquals(3L, bloco.get(1).numero());
+            assertEquals(List.of("Campo entre aspas não foi fechado até o fim do arquivo."), bloco.get(1).erros());
+            assertEquals(3, leitor.getLinhasLidas());
+        }
+    }
+
+    @Test
+    void pularDescartaLinhasJaProcessadas() throws Exception {
+        Path csv = arquivo("dataVenda,valor,idVendedor\n10/11/2025,1,1\n11/11/2025,2,1\n12/11/2025,3,1\n");
+
+        try (LeitorImportacaoVendas leitor = LeitorImportacaoVendas.abrir(csv)) {
+            leitor.pular(2);
+            List<LinhaImportacao> bloco = leitor.lerBloco(10);
+
+            assertEquals(1, bloco.size());
+            assertEquals(4L, bloco.get(0).numero());
+            assertEquals(new BigDecimal("3"), bloco.get(0).request().getValor());
+        }
+    }
+
+    @Test
+    void abrirSemColunasObrigatoriasLancaIllegalArgumentException() throws Exception {
+        Path csv = arquivo("data,valor\n10/11/2025,1\n");
+
+        assertThrows(IllegalArgumentException.class, () -> LeitorImportacaoVendas.abrir(csv));
+    }
+}
@@ -0,0 +1,71 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.domain.repository.projection.ResumoVendasProjection;
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.request.VendedorRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:vendaDiariaConcorrencia;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+class VendaDiariaConcorrenciaTest {
+
+    private static final int VENDAS_POR_DIA = 30;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private VendedorService vendedorService;
+
+    @Autowired
+    private VendaDiariaService vendaDiariaService;
+
+    @Test
+    void createConcorrenteNoPrimeiroDiaDoVendedorNaoFalhaNemDesviaTotais() throws Exception {
+        Long idVendedor = vendedorService.create(new VendedorRequest("Concorrente")).id();
+        ExecutorService executor = Executors.newFixedThreadPool(VENDAS_POR_DIA);
+
+        try {
+            for (int rodada = 0; rodada < 4; rodada++) {
+                LocalDate dia = LocalDate.of(2025, 1, 1).plusDays(rodada);
+                CountDownLatch largada = new CountDownLatch(1);
+                List<Future<?>> resultados = new ArrayList<>();
+
+                for (int i = 0; i < VENDAS_POR_DIA; i++) {
+                    resultados.add(executor.submit(() -> {
+                        largada.await();
+                        return vendaService.create(new VendaRequest(dia, new BigDecimal("10.00"), idVendedor));
+                    }));
+                }
+                largada.countDown();
+
+                for (Future<?> resultado : resultados) {
+                    assertDoesNotThrow(() -> resultado.get());
+                }
+
+                ResumoVendasProjection resumo = vendaDiariaService.resumir(idVendedor, dia, dia);
+                assertEquals(VENDAS_POR_DIA, resumo.getQuantidadeVendas());
+                assertEquals(0, new BigDecimal("300.00").compareTo(resumo.getTotalVendido()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(0L, vendaDiariaService.verificar(false).totalDivergencias());
+    }
+}
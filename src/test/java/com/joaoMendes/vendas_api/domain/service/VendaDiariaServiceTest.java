@@ -0,0 +1,236 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.domain.entities.Venda;
+import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+import com.joaoMendes.vendas_api.domain.repository.VendaDiariaRepository;
+import com.joaoMendes.vendas_api.domain.repository.VendaRepository;
+import com.joaoMendes.vendas_api.domain.repository.projection.VendaDiariaProjection;
+import com.joaoMendes.vendas_api.dto.response.VerificacaoVendaDiariaResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VendaDiariaServiceTest {
+
+    @Mock
+    private VendaDiariaRepository vendaDiariaRepository;
+
+    @Mock
+    private VendaRepository vendaRepository;
+
+    @Mock
+    private VersaoVendasService versaoVendasService;
+
+    @InjectMocks
+    private VendaDiariaService vendaDiariaService;
+
+    private final Long ID_VENDEDOR = 10L;
+    private final LocalDate DIA = LocalDate.of(2025, 11, 10);
+
+    private Vendedor vendedor;
+    private Venda venda;
+
+    @BeforeEach
+    void setup() {
+        vendedor = new Vendedor(ID_VENDEDOR, "Nome");
+        venda = new Venda(1L, DIA, new BigDecimal("100.00"), vendedor);
+
+        lenient().when(vendaDiariaRepository.acumular(any(), any(), any(), anyLong())).thenReturn(1);
+    }
+
+    @Test
+    void registrarAcumulaValorEUmaVendaNoDia() {
+        vendaDiariaService.registrar(venda);
+
+        verify(vendaDiariaRepository).acumular(ID_VENDEDOR, DIA, new BigDecimal("100.00"), 1L);
+        verify(vendaDiariaRepository, never()).bloquearVendedor(any());
+        verify(vendaDiariaRepository, never()).removerSeVazia(any(), any());
+        verify(versaoVendasService).registrarEscrita();
+    }
+
+    @Test
+    void registrarPrimeiraVendaDoDiaBloqueiaVendedorEInsereODia() {
+        when(vendaDiariaRepository.acumular(ID_VENDEDOR, DIA, new BigDecimal("100.00"), 1L)).thenReturn(0);
+
+        vendaDiariaService.registrar(venda);
+
+        var ordem = inOrder(vendaDiariaRepository);
+        ordem.verify(vendaDiariaRepository).bloquearVendedor(ID_VENDEDOR);
+        ordem.verify(vendaDiariaRepository).inserir(ID_VENDEDOR, DIA, new BigDecimal("100.00"), 1L);
+        verify(vendaDiariaRepository, times(2)).acumular(ID_VENDEDOR, DIA, new BigDecimal("100.00"), 1L);
+    }
+
+    @Test
+    void registrarQuandoOutraTransacaoCriouODiaDuranteOBloqueioApenasAcumula() {
+        when(vendaDiariaRepository.acumular(ID_VENDEDOR, DIA, new BigDecimal("100.00"), 1L)).thenReturn(0, 1);
+
+        vendaDiariaService.registrar(venda);
+
+        verify(vendaDiariaRepository).bloquearVendedor(ID_VENDEDOR);
+        verify(vendaDiariaRepository, never()).inserir(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void registrarTodasAgrupaPorVendedorEDiaAntesDeAcumular() {
+        Venda mesmoDia = new Venda(2L, DIA, new BigDecimal("50.00"), vendedor);
+        Venda outroDia = new Venda(3L, DIA.plusDays(1), new BigDecimal("7.00"), vendedor);
+
+        vendaDiariaService.registrarTodas(List.of(venda, mesmoDia, outroDia));
+
+        verify(vendaDiariaRepository).acumular(ID_VENDEDOR, DIA, new BigDecimal("150.00"), 2L);
+        verify(vendaDiariaRepository).acumular(ID_VENDEDOR, DIA.plusDays(1), new BigDecimal("7.00"), 1L);
+        verifyNoMoreInteractions(vendaDiariaRepository);
+    }
+
+    @Test
+    void removerSubtraiValorERemoveDiaSeFicarVazio() {
+        vendaDiariaService.remover(venda);
+
+        verify(vendaDiariaRepository).acumular(ID_VENDEDOR, DIA, new BigDecimal("-100.00"), -1L);
+        verify(vendaDiariaRepository).removerSeVazia(ID_VENDEDOR, DIA);
+    }
+
+    @Test
+    void descontarSubtraiTotaisDeCadaDiaExcluido() {
+        vendaDiariaService.descontar(List.of(
+                projecao(ID_VENDEDOR, DIA, "150.00", 2L),
+                projecao(ID_VENDEDOR, DIA.plusDays(1), "7.00", 1L)
+        ));
+
+        verify(vendaDiariaRepository).acumular(ID_VENDEDOR, DIA, new BigDecimal("-150.00"), -2L);
+        verify(vendaDiariaRepository).acumular(ID_VENDEDOR, DIA.plusDays(1), new BigDecimal("-7.00"), -1L);
+        verify(vendaDiariaRepository).removerSeVazia(ID_VENDEDOR, DIA);
+        verify(vendaDiariaRepository).removerSeVazia(ID_VENDEDOR, DIA.plusDays(1));
+    }
+
+    @Test
+    void moverNoMesmoDiaAcumulaApenasADiferenca() {
+        Venda atualizada = new Venda(1L, DIA, new BigDecimal("130.00"), vendedor);
+
+        vendaDiariaService.mover(venda, atualizada);
+
+        verify(vendaDiariaRepository).acumular(ID_VENDEDOR, DIA, new BigDecimal("30.00"), 0L);
+        verifyNoMoreInteractions(vendaDiariaRepository);
+    }
+
+    @Test
+    void moverParaOutroDiaEVendedorRetiraDoAnteriorERegistraNoNovo() {
+        Vendedor outroVendedor = new Vendedor(20L, "Outro");
+        LocalDate outroDia = DIA.plusDays(1);
+        Venda atualizada = new Venda(1L, outroDia, new BigDecimal("130.00"), outroVendedor);
+
+        vendaDiariaService.mover(venda, atualizada);
+
+        verify(vendaDiariaRepository).acumular(ID_VENDEDOR, DIA, new BigDecimal("-100.00"), -1L);
+        verify(vendaDiariaRepository).removerSeVazia(ID_VENDEDOR, DIA);
+        verify(vendaDiariaRepository).acumular(20L, outroDia, new BigDecimal("130.00"), 1L);
+    }
+
+    @Test
+    void verificarSemDivergenciasNaoAlteraTabela() {
+        when(vendaDiariaRepository.listarOrdenadas())
+                .thenReturn(Stream.of(projecao(ID_VENDEDOR, DIA, "100.00", 1L)));
+        when(vendaRepository.resumirPorVendedorEDia())
+                .thenReturn(Stream.of(projecao(ID_VENDEDOR, DIA, "100.0", 1L)));
+
+        VerificacaoVendaDiariaResponse resultado = vendaDiariaService.verificar(true);
+
+        assertEquals(1L, resultado.diasVerificados());
+        assertEquals(0L, resultado.totalDivergencias());
+        assertTrue(resultado.divergencias().isEmpty());
+        verify(vendaDiariaRepository, never()).definir(any(), any(), any(), anyLong());
+        verify(vendaDiariaRepository, never()).inserir(any(), any(), any(), anyLong());
+        verify(vendaDiariaRepository, never()).remover(any(), any());
+    }
+
+    @Test
+    void verificarComDivergenciaSemCorrigirApenasReporta() {
+        when(vendaDiariaRepository.listarOrdenadas())
+                .thenReturn(Stream.of(projecao(ID_VENDEDOR, DIA, "80.00", 1L)));
+        when(vendaRepository.resumirPorVendedorEDia())
+                .thenReturn(Stream.of(projecao(ID_VENDEDOR, DIA, "100.00", 1L)));
+
+        VerificacaoVendaDiariaResponse resultado = vendaDiariaService.verificar(false);
+
+        assertEquals(1L, resultado.totalDivergencias());
+        assertEquals(new BigDecimal("80.00"), resultado.divergencias().get(0).totalRegistrado());
+        assertEquals(new BigDecimal("100.00"), resultado.divergencias().get(0).totalEsperado());
+        assertFalse(resultado.corrigido());
+        verify(vendaDiariaRepository, never()).definir(any(), any(), any(), anyLong());
+    }
+
+    @Test
+    void verificarComCorrecaoGravaDiasFaltantesERemoveOrfaos() {
+        when(vendaDiariaRepository.listarOrdenadas())
+                .thenReturn(Stream.of(projecao(ID_VENDEDOR, DIA.minusDays(1), "5.00", 1L)));
+        when(vendaRepository.resumirPorVendedorEDia())
+                .thenReturn(Stream.of(projecao(ID_VENDEDOR, DIA, "100.00", 2L)));
+
+        VerificacaoVendaDiariaResponse resultado = vendaDiariaService.verificar(true);
+
+        assertEquals(1L, resultado.diasVerificados());
+        assertEquals(2L, resultado.totalDivergencias());
+        assertTrue(resultado.corrigido());
+        verify(vendaDiariaRepository).inserir(ID_VENDEDOR, DIA, new BigDecimal("100.00"), 2L);
+        verify(vendaDiariaRepository).remover(ID_VENDEDOR, DIA.minusDays(1));
+    }
+
+    @Test
+    void verificarPercorreOsDoisLadosOrdenadosEmParalelo() {
+        when(vendaDiariaRepository.listarOrdenadas()).thenReturn(Stream.of(
+                projecao(ID_VENDEDOR, DIA, "10.00", 1L),
+                projecao(ID_VENDEDOR, DIA.plusDays(1), "7.00", 1L),
+                projecao(20L, DIA, "3.00", 1L)
+        ));
+        when(vendaRepository.resumirPorVendedorEDia()).thenReturn(Stream.of(
+                projecao(ID_VENDEDOR, DIA, "10.00", 1L),
+                projecao(ID_VENDEDOR, DIA.plusDays(1), "9.00", 2L),
+                projecao(15L, DIA, "4.00", 1L),
+                projecao(20L, DIA, "3.00", 1L)
+        ));
+
+        VerificacaoVendaDiariaResponse resultado = vendaDiariaService.verificar(true);
+
+        assertEquals(4L, resultado.diasVerificados());
+        assertEquals(2L, resultado.totalDivergencias());
+        verify(vendaDiariaRepository).definir(ID_VENDEDOR, DIA.plusDays(1), new BigDecimal("9.00"), 2L);
+        verify(vendaDiariaRepository).inserir(15L, DIA, new BigDecimal("4.00"), 1L);
+        verify(vendaDiariaRepository, never()).remover(any(), any());
+    }
+
+    private VendaDiariaProjection projecao(Long idVendedor, LocalDate dataVenda, String total, Long quantidade) {
+        return new VendaDiariaProjection() {
+            @Override
+            public Long getIdVendedor() {
+                return idVendedor;
+            }
+
+            @Override
+            public LocalDate getDataVenda() {
+                return dataVenda;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+
+            @Override
+            public Long getQuantidade() {
+                return quantidade;
+            }
+        };
+    }
+}
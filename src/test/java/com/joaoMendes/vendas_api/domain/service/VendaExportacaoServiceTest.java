@@ -0,0 +1,104 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.joaoMendes.vendas_api.domain.exception.PeriodoInvalidoException;
+import com.joaoMendes.vendas_api.domain.repository.VendaExportacaoRepository;
+import com.joaoMendes.vendas_api.dto.request.FormatoExportacao;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VendaExportacaoServiceTest {
+
+    @Mock
+    private VendaExportacaoRepository vendaExportacaoRepository;
+
+    @Mock
+    private VendaService vendaService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private VendaExportacaoService vendaExportacaoService;
+
+    private final LocalDate INICIO = LocalDate.of(2025, 11, 1);
+    private final LocalDate FIM = LocalDate.of(2025, 11, 30);
+
+    @Test
+    void exportarCsvEscreveCabecalhoELinhas() throws Exception {
+        percorrerLinhas(INICIO, FIM,
+                linha(1L, LocalDate.of(2025, 11, 10), "100.50", 10L, "Joao"),
+                linha(2L, LocalDate.of(2025, 11, 11), "20.00", 11L, "Silva, \"Maria\""));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        vendaExportacaoService.exportar(FormatoExportacao.CSV, INICIO, FIM, saida);
+
+        assertEquals("""
+                id,dataVenda,valor,idVendedor,nomeVendedor
+                1,10/11/2025,100.50,10,Joao
+                2,11/11/2025,20.00,11,"Silva, ""Maria\"""
+                """, saida.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportarNdjsonEscreveUmObjetoPorLinha() throws Exception {
+        percorrerLinhas(null, null,
+                linha(1L, LocalDate.of(2025, 11, 10), "100.50", 10L, "Joao"),
+                linha(2L, LocalDate.of(2025, 11, 11), "20.00", 11L, "Maria"));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        vendaExportacaoService.exportar(FormatoExportacao.NDJSON, null, null, saida);
+
+        assertEquals("""
+                {"id":1,"dataVenda":"10/11/2025","valor":100.50,"idVendedor":10,"nomeVendedor":"Joao"}
+                {"id":2,"dataVenda":"11/11/2025","valor":20.00,"idVendedor":11,"nomeVendedor":"Maria"}
+                """, saida.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportarQuandoDataFimAntesDeInicioLancaExcecao() {
+        doThrow(new PeriodoInvalidoException(FIM, INICIO)).when(vendaService).validarPeriodo(FIM, INICIO);
+
+        assertThrows(PeriodoInvalidoException.class,
+                () -> vendaExportacaoService.exportar(FormatoExportacao.CSV, FIM, INICIO, new ByteArrayOutputStream()));
+
+        verifyNoInteractions(vendaExportacaoRepository);
+    }
+
+    private void percorrerLinhas(LocalDate inicio, LocalDate fim, ResultSet... linhas) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            for (ResultSet linha : linhas) {
+                handler.processRow(linha);
+            }
+            return null;
+        }).when(vendaExportacaoRepository).percorrer(eq(inicio), eq(fim), any());
+    }
+
+    private ResultSet linha(Long id, LocalDate dataVenda, String valor, Long idVendedor, String nomeVendedor) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(id);
+        when(rs.getObject(2, LocalDate.class)).thenReturn(dataVenda);
+        when(rs.getBigDecimal(3)).thenReturn(new BigDecimal(valor));
+        when(rs.getLong(4)).thenReturn(idVendedor);
+        when(rs.getString(5)).thenReturn(nomeVendedor);
+        return rs;
+    }
+}
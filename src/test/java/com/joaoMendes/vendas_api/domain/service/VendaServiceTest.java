@@ -1,29 +1,69 @@
 package com.joaoMendes.vendas_api.domain.service;
 
+import com.joaoMendes.vendas_api.config.RoteamentoDataSource;
+import com.joaoMendes.vendas_api.domain.cache.ChaveIdempotenciaCache;
+import com.joaoMendes.vendas_api.domain.cache.EscritasRecentesCache;
+import com.joaoMendes.vendas_api.domain.cache.MediaPorPeriodoCache;
+import com.joaoMendes.vendas_api.domain.cache.RankingVendedoresCache;
+import com.joaoMendes.vendas_api.domain.cache.VendedorCache;
+import com.joaoMendes.vendas_api.domain.entities.ChaveIdempotencia;
 import com.joaoMendes.vendas_api.domain.entities.Venda;
 import com.joaoMendes.vendas_api.domain.entities.Vendedor;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaEmUsoException;
+import com.joaoMendes.vendas_api.domain.exception.ChaveIdempotenciaReutilizadaException;
 import com.joaoMendes.vendas_api.domain.exception.PeriodoInvalidoException;
 import com.joaoMendes.vendas_api.domain.exception.VendaNotFoundException;
 import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.VersaoConflitanteException;
+import com.joaoMendes.vendas_api.domain.repository.ChaveIdempotenciaRepository;
 import com.joaoMendes.vendas_api.domain.repository.VendaRepository;
 import com.joaoMendes.vendas_api.domain.repository.VendedorRepository;
+import com.joaoMendes.vendas_api.domain.repository.projection.RankingVendedorProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.ResumoVendasProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.VendaDiariaProjection;
+import com.joaoMendes.vendas_api.domain.repository.projection.VersaoVendaProjection;
+import com.joaoMendes.vendas_api.dto.request.Granularidade;
 import com.joaoMendes.vendas_api.dto.request.MediaPorPeriodoRequest;
 import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.response.ExclusaoVendasResponse;
 import com.joaoMendes.vendas_api.dto.response.MediaPorPeriodoResponse;
+import com.joaoMendes.vendas_api.dto.response.PontoSerieVendasResponse;
+import com.joaoMendes.vendas_api.dto.response.SerieVendasResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteErroResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaLoteResponse;
+import com.joaoMendes.vendas_api.dto.response.VendaPaginaResponse;
 import com.joaoMendes.vendas_api.dto.response.VendaResponse;
 import com.joaoMendes.vendas_api.mapper.VendaMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,9 +77,39 @@ class VendaServiceTest {
     @Mock
     private VendedorRepository vendedorRepository;
 
+    @Mock
+    private VendaDiariaService vendaDiariaService;
+
+    @Mock
+    private VersaoVendasService versaoVendasService;
+
     @Mock
     private VendaMapper vendaMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+
+    @Spy
+    private VendedorCache vendedorCache = new VendedorCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private RankingVendedoresCache rankingVendedoresCache = new RankingVendedoresCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private EscritasRecentesCache escritasRecentesCache = new EscritasRecentesCache(Duration.ofMinutes(1));
+
+    @Spy
+    private MediaPorPeriodoCache mediaPorPeriodoCache = new MediaPorPeriodoCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private ChaveIdempotenciaCache chaveIdempotenciaCache = new ChaveIdempotenciaCache(100, Duration.ofHours(1));
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
     @InjectMocks
     private VendaService vendaService;
 
@@ -111,7 +181,9 @@ class VendaServiceTest {
         verify(vendedorRepository).findById(ID_VENDEDOR);
         verify(vendaMapper).toEntity(vendaRequest, vendedor);
         verify(vendaRepository).save(vendaEntity);
+        verify(vendaDiariaService).registrar(vendaSalva);
         verify(vendaMapper).toResponse(vendaSalva);
+        assertTrue(escritasRecentesCache.recente(ID_VENDEDOR));
     }
 
     @Test
@@ -142,6 +214,7 @@ class VendaServiceTest {
         verify(vendedorRepository).findById(ID_VENDEDOR);
         verify(vendaMapper).toEntity(any(), any());
         verify(vendaRepository).save(any());
+        verify(vendaDiariaService, never()).registrar(any());
         verify(vendaMapper, never()).toResponse(any());
     }
 
@@ -179,37 +252,257 @@ class VendaServiceTest {
     }
 
     @Test
-    void deleteQuandoIdExisteDeletaComSucesso() {
-        when(vendaRepository.findById(ID_VENDA)).thenReturn(Optional.of(vendaSalva));
+    void createIdempotenteQuandoChaveNovaCriaVendaERegistraResposta() {
+        LocalDateTime expiraEm = LocalDateTime.now().plusHours(1);
+        when(chaveIdempotenciaRepository.findById("chave-1")).thenReturn(Optional.empty());
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaMapper.toEntity(vendaRequest, vendedor)).thenReturn(vendaEntity);
+        when(vendaRepository.save(vendaEntity)).thenReturn(vendaSalva);
+        when(vendaMapper.toResponse(vendaSalva)).thenReturn(vendaResponse);
+
+        RespostaIdempotente result = vendaService.createIdempotente("chave-1", "hash", expiraEm, vendaRequest);
+
+        assertFalse(result.repetida());
+        assertEquals(vendaResponse, result.venda());
+
+        ArgumentCaptor<ChaveIdempotencia> captor = ArgumentCaptor.forClass(ChaveIdempotencia.class);
+        verify(entityManager).persist(captor.capture());
+        assertEquals(ID_VENDA, captor.getValue().getIdVenda());
+        assertEquals(expiraEm, captor.getValue().getExpiraEm());
+        assertSame(captor.getValue(), chaveIdempotenciaCache.buscar("chave-1", LocalDateTime.now()));
+    }
+
+    @Test
+    void createIdempotenteQuandoChaveJaRegistradaRetornaRespostaOriginal() {
+        ChaveIdempotencia existente = new ChaveIdempotencia("chave-1", "hash",
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1));
+        existente.registrarResposta(vendaResponse);
+        when(chaveIdempotenciaRepository.findById("chave-1")).thenReturn(Optional.of(existente));
+        when(vendaMapper.toResponseIdempotente(existente)).thenReturn(vendaResponse);
+
+        RespostaIdempotente result = vendaService.createIdempotente("chave-1", "hash",
+                LocalDateTime.now().plusHours(1), vendaRequest);
+
+        assertTrue(result.repetida());
+        assertEquals(vendaResponse, result.venda());
+        verify(vendaRepository, never()).save(any());
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void createIdempotenteQuandoCorpoDiferenteLancaChaveIdempotenciaReutilizadaException() {
+        ChaveIdempotencia existente = new ChaveIdempotencia("chave-1", "outro-hash",
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1));
+        when(chaveIdempotenciaRepository.findById("chave-1")).thenReturn(Optional.of(existente));
+
+        assertThrows(ChaveIdempotenciaReutilizadaException.class,
+                () -> vendaService.createIdempotente("chave-1", "hash", LocalDateTime.now().plusHours(1), vendaRequest));
+
+        verify(vendaRepository, never()).save(any());
+    }
+
+    @Test
+    void createIdempotenteQuandoChaveExpiradaSubstituiRegistro() {
+        ChaveIdempotencia expirada = new ChaveIdempotencia("chave-1", "outro-hash",
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1));
+        when(chaveIdempotenciaRepository.findById("chave-1")).thenReturn(Optional.of(expirada));
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaMapper.toEntity(vendaRequest, vendedor)).thenReturn(vendaEntity);
+        when(vendaRepository.save(vendaEntity)).thenReturn(vendaSalva);
+        when(vendaMapper.toResponse(vendaSalva)).thenReturn(vendaResponse);
+
+        RespostaIdempotente result = vendaService.createIdempotente("chave-1", "hash",
+                LocalDateTime.now().plusHours(1), vendaRequest);
+
+        assertFalse(result.repetida());
+        var ordem = inOrder(chaveIdempotenciaRepository, entityManager);
+        ordem.verify(chaveIdempotenciaRepository).delete(expirada);
+        ordem.verify(entityManager).flush();
+        ordem.verify(entityManager).persist(any(ChaveIdempotencia.class));
+    }
+
+    @Test
+    void createIdempotenteQuandoOutraRequisicaoGravouChaveLancaChaveIdempotenciaEmUsoException() {
+        when(chaveIdempotenciaRepository.findById("chave-1")).thenReturn(Optional.empty());
+        doThrow(new ConstraintViolationException("duplicada", new SQLException(),
+                "insert into tb_chave_idempotencia (criada_em,expira_em,hash_requisicao,chave) values (?,?,?,?)",
+                ConstraintViolationException.ConstraintKind.UNIQUE, "PUBLIC.PRIMARY_KEY_B"))
+                .when(entityManager).flush();
+
+        assertThrows(ChaveIdempotenciaEmUsoException.class,
+                () -> vendaService.createIdempotente("chave-1", "hash", LocalDateTime.now().plusHours(1), vendaRequest));
+
+        verify(vendaRepository, never()).save(any());
+    }
+
+    @Test
+    void createIdempotenteQuandoFlushFalhaPorOutroMotivoPropagaAExcecao() {
+        PersistenceException falha = new PersistenceException("conexão perdida");
+        when(chaveIdempotenciaRepository.findById("chave-1")).thenReturn(Optional.empty());
+        doThrow(falha).when(entityManager).flush();
+
+        PersistenceException lancada = assertThrows(PersistenceException.class,
+                () -> vendaService.createIdempotente("chave-1", "hash", LocalDateTime.now().plusHours(1), vendaRequest));
+
+        assertSame(falha, lancada);
+        verify(vendaRepository, never()).save(any());
+    }
+
+    @Test
+    void createIdempotenteQuandoViolaOutraRestricaoPropagaAExcecao() {
+        ConstraintViolationException violacao = new ConstraintViolationException("nula", new SQLException(),
+                "insert into tb_chave_idempotencia (criada_em,expira_em,hash_requisicao,chave) values (?,?,?,?)",
+                ConstraintViolationException.ConstraintKind.OTHER, null);
+        when(chaveIdempotenciaRepository.findById("chave-1")).thenReturn(Optional.empty());
+        doThrow(violacao).when(entityManager).flush();
+
+        assertSame(violacao, assertThrows(ConstraintViolationException.class,
+                () -> vendaService.createIdempotente("chave-1", "hash", LocalDateTime.now().plusHours(1), vendaRequest)));
+    }
+
+    @Test
+    void createEmLoteInsereItensValidosEReportaErrosPorItem() {
+        VendaRequest semValor = new VendaRequest(LocalDate.of(2025, 11, 20), null, ID_VENDEDOR);
+        VendaRequest vendedorInexistente = new VendaRequest(LocalDate.of(2025, 11, 20), VALOR, 99L);
+        List<VendaRequest> requests = Arrays.asList(vendaRequest, semValor, vendedorInexistente, null);
+
+        when(vendedorRepository.findAllById(Set.of(ID_VENDEDOR, 99L))).thenReturn(List.of(vendedor));
+        when(vendaMapper.toEntity(vendaRequest, vendedor)).thenReturn(vendaEntity);
+
+        VendaLoteResponse result = vendaService.createEmLote(requests);
+
+        assertEquals(4, result.recebidas());
+        assertEquals(1, result.inseridas());
+        assertEquals(List.of(1, 2, 3), result.erros().stream().map(VendaLoteErroResponse::indice).toList());
+        assertEquals(List.of("valor: O valor da venda é obrigatório."), result.erros().get(0).erros());
+        assertEquals(List.of(new VendedorNotFoundException(99L).getMessage()), result.erros().get(1).erros());
+
+        verify(vendedorRepository).findAllById(Set.of(ID_VENDEDOR, 99L));
+        verify(vendedorRepository, never()).findById(any());
+        verify(vendaRepository).saveAll(List.of(vendaEntity));
+        verify(vendaRepository).flush();
+        verify(entityManager).detach(vendaEntity);
+        verify(vendaDiariaService).registrarTodas(List.of(vendaEntity));
+    }
+
+    @Test
+    void createEmLoteAcimaDoLimiteLancaIllegalArgumentException() {
+        List<VendaRequest> requests = Collections.nCopies(VendaService.TAMANHO_MAXIMO_LOTE + 1, vendaRequest);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> vendaService.createEmLote(requests));
+
+        verifyNoInteractions(vendedorRepository, vendaRepository, vendaDiariaService);
+    }
+
+    @Test
+    void deleteExcluiComUmComandoEDescontaTotaisDoDia() {
+        List<VendaDiariaProjection> excluidas = List.of(diaVendido(vendaSalva.getDataVenda(), "500.00", 1L));
+        when(vendaRepository.resumirPorIds(List.of(ID_VENDA))).thenReturn(excluidas);
+        when(vendaRepository.excluirPorIds(List.of(ID_VENDA))).thenReturn(1);
 
         assertDoesNotThrow(() -> vendaService.delete(ID_VENDA));
 
-        verify(vendaRepository).findById(ID_VENDA);
-        verify(vendaRepository).delete(vendaSalva);
+        verify(vendaRepository).excluirPorIds(List.of(ID_VENDA));
+        verify(vendaRepository, never()).findById(any());
+        verify(vendaRepository, never()).delete(any());
+        verify(vendaDiariaService).descontar(excluidas);
     }
 
     @Test
     void deleteQuandoIdInexistenteLancaVendaNotFoundException() {
-        when(vendaRepository.findById(ID_VENDA)).thenReturn(Optional.empty());
+        when(vendaRepository.resumirPorIds(List.of(ID_VENDA))).thenReturn(List.of());
 
         assertThrows(VendaNotFoundException.class,
                 () -> vendaService.delete(ID_VENDA));
 
-        verify(vendaRepository, never()).delete(any());
+        verify(vendaRepository, never()).findById(any());
+        verify(vendaRepository, never()).excluirPorIds(any());
+    }
+
+    @Test
+    void deleteQuandoOutraRequisicaoRemoveuAVendaAntesLancaObjectOptimisticLockingFailureException() {
+        when(vendaRepository.resumirPorIds(List.of(ID_VENDA)))
+                .thenReturn(List.of(diaVendido(vendaSalva.getDataVenda(), "500.00", 1L)));
+        when(vendaRepository.excluirPorIds(List.of(ID_VENDA))).thenReturn(0);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> vendaService.delete(ID_VENDA));
+
+        verifyNoInteractions(vendaDiariaService);
     }
 
     @Test
     void deleteQuandoDeleteFalhaLancaDataIntegrityViolationException() {
-        when(vendaRepository.findById(ID_VENDA))
-                .thenReturn(Optional.of(vendaSalva));
-        doThrow(new DataIntegrityViolationException("Erro delete"))
-                .when(vendaRepository).delete(vendaSalva);
+        when(vendaRepository.resumirPorIds(List.of(ID_VENDA)))
+                .thenReturn(List.of(diaVendido(vendaSalva.getDataVenda(), "500.00", 1L)));
+        when(vendaRepository.excluirPorIds(List.of(ID_VENDA)))
+                .thenThrow(new DataIntegrityViolationException("Erro delete"));
 
         assertThrows(DataIntegrityViolationException.class,
                 () -> vendaService.delete(ID_VENDA));
 
-        verify(vendaRepository).findById(ID_VENDA);
-        verify(vendaRepository).delete(vendaSalva);
+        verifyNoInteractions(vendaDiariaService);
+    }
+
+    @Test
+    void deleteEmLoteIgnoraIdsRepetidosEContaVendasRemovidas() {
+        when(vendaRepository.resumirPorIds(Set.of(1L, 2L, 3L))).thenReturn(List.of(
+                diaVendido(DATA_INICIO_VALIDO, "30.00", 2L),
+                diaVendido(DATA_FIM_VALIDO, "5.00", 1L)
+        ));
+        when(vendaRepository.excluirPorIds(Set.of(1L, 2L, 3L))).thenReturn(3);
+
+        ExclusaoVendasResponse response = vendaService.deleteEmLote(Arrays.asList(1L, 2L, 2L, null, 3L));
+
+        assertEquals(3L, response.removidas());
+        verify(vendaDiariaService).descontar(anyList());
+    }
+
+    @Test
+    void deleteEmLoteSemIdsOuAcimaDoLimiteLancaIllegalArgumentException() {
+        List<Long> acimaDoLimite = new ArrayList<>();
+        for (long i = 0; i <= VendaService.TAMANHO_MAXIMO_EXCLUSAO; i++) {
+            acimaDoLimite.add(i);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> vendaService.deleteEmLote(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> vendaService.deleteEmLote(acimaDoLimite));
+
+        verifyNoInteractions(vendaRepository);
+    }
+
+    @Test
+    void deletePorPeriodoExcluiVendasDoVendedorNoPeriodo() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaRepository.resumirPorVendedorEPeriodo(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
+                .thenReturn(List.of(diaVendido(DATA_INICIO_VALIDO, "30.00", 4L)));
+        when(vendaRepository.excluirPorVendedorEPeriodo(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
+                .thenReturn(4);
+
+        ExclusaoVendasResponse response = vendaService.deletePorPeriodo(ID_VENDEDOR, request);
+
+        assertEquals(4L, response.removidas());
+    }
+
+    @Test
+    void validarPeriodoQuandoApenasUmaDataLancaExcecao() {
+        LocalDate dia = LocalDate.of(2025, 11, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> vendaService.validarPeriodo(dia, null));
+        assertThrows(IllegalArgumentException.class, () -> vendaService.validarPeriodo(null, dia));
+        assertDoesNotThrow(() -> vendaService.validarPeriodo(null, null));
+    }
+
+    @Test
+    void deletePorPeriodoQuandoPeriodoInvalidoLancaPeriodoInvalidoException() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_FIM_VALIDO, DATA_INICIO_VALIDO);
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+
+        assertThrows(PeriodoInvalidoException.class, () -> vendaService.deletePorPeriodo(ID_VENDEDOR, request));
+
+        verifyNoInteractions(vendaRepository, vendaDiariaService);
     }
 
     @Test
@@ -233,7 +526,7 @@ class VendaServiceTest {
                 .thenThrow(new RuntimeException("Erro repo"));
 
         assertThrows(RuntimeException.class,
-                () -> vendaService.getById(any()));
+                () -> vendaService.getById(ID_VENDA));
 
         verify(vendaMapper, never()).toResponse(any());
     }
@@ -248,6 +541,32 @@ class VendaServiceTest {
         verify(vendaMapper, never()).toResponse(any());
     }
 
+    @Test
+    void getETagCombinaVersaoDaVendaEDoVendedor() {
+        when(vendaRepository.buscarVersao(ID_VENDA)).thenReturn(Optional.of(versaoVenda(2L, 5L)));
+
+        assertEquals("2-5", vendaService.getETag(ID_VENDA));
+
+        verify(vendaRepository, never()).findById(any());
+        verifyNoInteractions(vendaMapper);
+    }
+
+    @Test
+    void getETagQuandoIdInexistenteLancaVendaNotFoundException() {
+        when(vendaRepository.buscarVersao(ID_VENDA)).thenReturn(Optional.empty());
+
+        assertThrows(VendaNotFoundException.class, () -> vendaService.getETag(ID_VENDA));
+    }
+
+    @Test
+    void getETagColecaoUsaVersaoMantidaPelasEscritas() {
+        when(versaoVendasService.getVersao()).thenReturn("lq3x9a-42");
+
+        assertEquals("lq3x9a-42", vendaService.getETagColecao());
+
+        verify(vendaRepository, never()).listarResponses();
+    }
+
     @Test
     void getVendasPorVendedorByIdQuandoIdExisteRetornaListaDeVendas() {
         List<Venda> listaVendas = List.of(vendaSalva);
@@ -310,11 +629,9 @@ class VendaServiceTest {
 
     @Test
     void getAllRetornaListaDeVendasResponse() {
-        List<Venda> listaVendas = List.of(vendaSalva);
         List<VendaResponse> listaResponse = List.of(vendaResponse);
 
-        when(vendaRepository.findAll()).thenReturn(listaVendas);
-        when(vendaMapper.toResponseList(listaVendas)).thenReturn(listaResponse);
+        when(vendaRepository.listarResponses()).thenReturn(listaResponse);
 
         List<VendaResponse> result = vendaService.getAll();
 
@@ -322,33 +639,110 @@ class VendaServiceTest {
         assertEquals(1, result.size());
         assertEquals(vendaResponse.id(), result.get(0).id());
 
-        verify(vendaRepository).findAll();
-        verify(vendaMapper).toResponseList(listaVendas);
+        verify(vendaRepository).listarResponses();
+        verifyNoInteractions(vendaMapper);
     }
 
     @Test
     void getAllQuandoRepositoryRetornaVazioRetornaListaVazia() {
-        when(vendaRepository.findAll()).thenReturn(List.of());
-        when(vendaMapper.toResponseList(anyList())).thenReturn(List.of());
+        when(vendaRepository.listarResponses()).thenReturn(List.of());
 
         List<VendaResponse> result = vendaService.getAll();
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
 
-        verify(vendaRepository).findAll();
-        verify(vendaMapper).toResponseList(anyList());
+        verify(vendaRepository).listarResponses();
     }
 
     @Test
     void getAllQuandoRepositoryFalhaLancaExcecao() {
-        when(vendaRepository.findAll())
+        when(vendaRepository.listarResponses())
                 .thenThrow(new RuntimeException("Erro repository"));
 
         assertThrows(RuntimeException.class,
                 () -> vendaService.getAll());
 
-        verify(vendaMapper, never()).toResponseList(anyList());
+        verify(vendaRepository, never()).findAll();
+    }
+
+
+    @Test
+    void getPaginaSemCursorRetornaPrimeiraPaginaComProximoCursor() {
+        Venda outraVenda = new Venda(2L, vendaRequest.getDataVenda(), VALOR, vendedor);
+
+        when(vendaRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(vendaSalva, outraVenda));
+        when(vendaMapper.toResponseList(List.of(vendaSalva)))
+                .thenReturn(List.of(vendaResponse));
+
+        VendaPaginaResponse result = vendaService.getPagina(null, 1);
+
+        assertEquals(1, result.vendas().size());
+        assertNotNull(result.proximoCursor());
+
+        verify(vendaRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+    }
+
+    @Test
+    void getPaginaComCursorContinuaAPartirDoUltimoIdRetornado() {
+        Venda outraVenda = new Venda(2L, vendaRequest.getDataVenda(), VALOR, vendedor);
+
+        when(vendaRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(List.of(vendaSalva, outraVenda));
+        when(vendaRepository.findByIdGreaterThanOrderByIdAsc(ID_VENDA, Limit.of(2)))
+                .thenReturn(List.of(outraVenda));
+        when(vendaMapper.toResponseList(anyList())).thenReturn(List.of(vendaResponse));
+
+        String cursor = vendaService.getPagina(null, 1).proximoCursor();
+        VendaPaginaResponse segunda = vendaService.getPagina(cursor, 1);
+
+        assertNull(segunda.proximoCursor());
+        verify(vendaRepository).findByIdGreaterThanOrderByIdAsc(ID_VENDA, Limit.of(2));
+    }
+
+    @Test
+    void getPaginaQuandoUltimaPaginaRetornaCursorNulo() {
+        when(vendaRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(List.of(vendaSalva));
+        when(vendaMapper.toResponseList(List.of(vendaSalva)))
+                .thenReturn(List.of(vendaResponse));
+
+        VendaPaginaResponse result = vendaService.getPagina(null, 10);
+
+        assertEquals(1, result.vendas().size());
+        assertNull(result.proximoCursor());
+    }
+
+    @Test
+    void getPaginaQuandoLimiteInvalidoLancaIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> vendaService.getPagina(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> vendaService.getPagina(null, VendaService.LIMITE_MAXIMO_PAGINA + 1));
+
+        verifyNoInteractions(vendaRepository);
+    }
+
+    @Test
+    void getPaginaQuandoCursorInvalidoLancaIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> vendaService.getPagina("###", 10));
+
+        verifyNoInteractions(vendaRepository);
+    }
+
+    @Test
+    void streamAllEntregaCadaVendaAoConsumidor() {
+        List<VendaResponse> recebidas = new ArrayList<>();
+
+        when(vendaRepository.streamAll()).thenReturn(Stream.of(vendaSalva));
+        when(vendaMapper.toResponse(vendaSalva)).thenReturn(vendaResponse);
+
+        vendaService.streamAll(recebidas::add);
+
+        assertEquals(List.of(vendaResponse), recebidas);
+        verify(entityManager).detach(vendaSalva);
     }
 
 
@@ -361,7 +755,7 @@ class VendaServiceTest {
         when(vendaRepository.save(vendaExistente)).thenReturn(vendaSalva);
         when(vendaMapper.toResponse(vendaSalva)).thenReturn(vendaResponse);
 
-        VendaResponse result = vendaService.update(ID_VENDA, vendaRequest);
+        VendaResponse result = vendaService.update(ID_VENDA, vendaRequest, null);
 
         assertEquals(ID_VENDA, result.id());
         assertEquals(VALOR, result.valor());
@@ -370,15 +764,63 @@ class VendaServiceTest {
         verify(vendedorRepository).findById(ID_VENDEDOR);
         verify(vendaMapper).toEntity(vendaRequest, vendedor);
         verify(vendaRepository).save(vendaExistente);
+        verify(vendaDiariaService).mover(any(Venda.class), eq(vendaSalva));
         verify(vendaMapper).toResponse(vendaSalva);
     }
 
+    @Test
+    void updateMoveTotaisDoDiaAnteriorParaONovoDia() {
+        Venda vendaExistente = new Venda(ID_VENDA, LocalDate.of(2025, 11, 1), new BigDecimal("10.00"), vendedor);
+        ArgumentCaptor<Venda> anterior = ArgumentCaptor.forClass(Venda.class);
+
+        when(vendaRepository.findById(ID_VENDA)).thenReturn(Optional.of(vendaExistente));
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaMapper.toEntity(vendaRequest, vendedor)).thenReturn(vendaEntity);
+        when(vendaRepository.save(vendaExistente)).thenReturn(vendaExistente);
+
+        vendaService.update(ID_VENDA, vendaRequest, null);
+
+        verify(vendaDiariaService).mover(anterior.capture(), eq(vendaExistente));
+        assertEquals(LocalDate.of(2025, 11, 1), anterior.getValue().getDataVenda());
+        assertEquals(new BigDecimal("10.00"), anterior.getValue().getValor());
+        assertEquals(vendaRequest.getDataVenda(), vendaExistente.getDataVenda());
+        assertEquals(VALOR, vendaExistente.getValor());
+    }
+
+    @Test
+    void updateQuandoIfMatchCorrespondeAVersaoAtualAtualiza() {
+        vendaSalva.setVersao(2L);
+        vendedor.setVersao(1L);
+        when(vendaRepository.findById(ID_VENDA)).thenReturn(Optional.of(vendaSalva));
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaMapper.toEntity(vendaRequest, vendedor)).thenReturn(vendaEntity);
+        when(vendaRepository.save(vendaSalva)).thenReturn(vendaSalva);
+        when(vendaMapper.toResponse(vendaSalva)).thenReturn(vendaResponse);
+
+        vendaService.update(ID_VENDA, vendaRequest, "\"2-1\"");
+
+        verify(vendaRepository).save(vendaSalva);
+    }
+
+    @Test
+    void updateQuandoIfMatchDesatualizadoLancaVersaoConflitanteException() {
+        vendaSalva.setVersao(3L);
+        vendedor.setVersao(1L);
+        when(vendaRepository.findById(ID_VENDA)).thenReturn(Optional.of(vendaSalva));
+
+        assertThrows(VersaoConflitanteException.class,
+                () -> vendaService.update(ID_VENDA, vendaRequest, "\"2-1\""));
+
+        verify(vendaRepository, never()).save(any());
+        verifyNoInteractions(vendaDiariaService);
+    }
+
     @Test
     void updateQuandoVendaNaoExisteLancaVendaNotFoundException() {
         when(vendaRepository.findById(ID_VENDA)).thenReturn(Optional.empty());
 
         assertThrows(VendaNotFoundException.class,
-                () -> vendaService.update(ID_VENDA, vendaRequest));
+                () -> vendaService.update(ID_VENDA, vendaRequest, null));
 
         verify(vendedorRepository, never()).findById(any());
         verify(vendaMapper, never()).toEntity(any(), any());
@@ -391,7 +833,7 @@ class VendaServiceTest {
         when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.empty());
 
         assertThrows(VendedorNotFoundException.class,
-                () -> vendaService.update(ID_VENDA, vendaRequest));
+                () -> vendaService.update(ID_VENDA, vendaRequest, null));
 
         verify(vendaMapper, never()).toEntity(any(), any());
         verify(vendaRepository, never()).save(any());
@@ -409,7 +851,7 @@ class VendaServiceTest {
                 .when(vendaMock).updateFrom(vendaEntity);
 
         assertThrows(RuntimeException.class,
-                () -> vendaService.update(ID_VENDA, vendaRequest));
+                () -> vendaService.update(ID_VENDA, vendaRequest, null));
 
         verify(vendaRepository).findById(ID_VENDA);
         verify(vendedorRepository).findById(ID_VENDEDOR);
@@ -426,7 +868,7 @@ class VendaServiceTest {
                 .thenThrow(new RuntimeException("Erro mapper"));
 
         assertThrows(RuntimeException.class,
-                () -> vendaService.update(ID_VENDA, vendaRequest));
+                () -> vendaService.update(ID_VENDA, vendaRequest, null));
 
         verify(vendaRepository, never()).save(any());
         verify(vendaMapper, never()).toResponse(any());
@@ -444,7 +886,7 @@ class VendaServiceTest {
                 .thenThrow(new DataIntegrityViolationException("Erro"));
 
         assertThrows(DataIntegrityViolationException.class,
-                () -> vendaService.update(ID_VENDA, vendaRequest));
+                () -> vendaService.update(ID_VENDA, vendaRequest, null));
 
         verify(vendaRepository).findById(ID_VENDA);
         verify(vendedorRepository).findById(ID_VENDEDOR);
@@ -467,7 +909,7 @@ class VendaServiceTest {
                 .thenThrow(new RuntimeException("Erro response"));
 
         assertThrows(RuntimeException.class,
-                () -> vendaService.update(ID_VENDA, vendaRequest));
+                () -> vendaService.update(ID_VENDA, vendaRequest, null));
 
         verify(vendaRepository).findById(ID_VENDA);
         verify(vendedorRepository).findById(ID_VENDEDOR);
@@ -481,12 +923,9 @@ class VendaServiceTest {
     void calcularMediaDiariaComVendasCalculaTotalQuantidadeDiasEMediaCorretamente() {
         MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
 
-        Venda v1 = new Venda(null, LocalDate.of(2025,11,10), new BigDecimal("100.50"), vendedor);
-        Venda v2 = new Venda(null, LocalDate.of(2025,11,12), new BigDecimal("200.25"), vendedor);
-
         when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
-        when(vendaRepository.findByVendedorAndDataVendaBetween(vendedor, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
-                .thenReturn(List.of(v1, v2));
+        when(vendaDiariaService.resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
+                .thenReturn(resumo("300.75", 2L));
 
         MediaPorPeriodoResponse resp = vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request);
 
@@ -496,7 +935,115 @@ class VendaServiceTest {
         assertEquals(2L, resp.quantidadeVendas());
 
         verify(vendedorRepository).findById(ID_VENDEDOR);
-        verify(vendaRepository).findByVendedorAndDataVendaBetween(vendedor, DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+        verify(vendaDiariaService).resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+    }
+
+    @Test
+    void calcularMediaPorPeriodoSemEscritaRecenteLeDaReplica() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+        List<RoteamentoDataSource.Destino> destinos = new ArrayList<>();
+
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaDiariaService.resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO)).thenAnswer(invocation -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try {
+                destinos.add(RoteamentoDataSource.destinoAtual());
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+            return resumo("300.75", 2L);
+        });
+
+        vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request);
+        escritasRecentesCache.registrar(ID_VENDEDOR);
+        mediaPorPeriodoCache.invalidar(ID_VENDEDOR);
+        vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request);
+
+        assertEquals(List.of(RoteamentoDataSource.Destino.REPLICA, RoteamentoDataSource.Destino.PRIMARIO), destinos);
+    }
+
+    private RoteamentoDataSource.Destino destinoEmLeitura() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return RoteamentoDataSource.destinoAtual();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    @Test
+    void getByIdAposCreateLeDoPrimario() {
+        List<RoteamentoDataSource.Destino> destinos = new ArrayList<>();
+
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaMapper.toEntity(vendaRequest, vendedor)).thenReturn(vendaEntity);
+        when(vendaRepository.save(vendaEntity)).thenReturn(vendaSalva);
+        when(vendaMapper.toResponse(vendaSalva)).thenReturn(vendaResponse);
+        when(vendaRepository.findById(ID_VENDA)).thenAnswer(invocation -> {
+            destinos.add(destinoEmLeitura());
+            return Optional.of(vendaSalva);
+        });
+
+        vendaService.getById(ID_VENDA);
+        vendaService.create(vendaRequest);
+        vendaService.getById(ID_VENDA);
+
+        assertEquals(List.of(RoteamentoDataSource.Destino.REPLICA, RoteamentoDataSource.Destino.PRIMARIO), destinos);
+    }
+
+    @Test
+    void getETagAposUpdateLeDoPrimario() {
+        List<RoteamentoDataSource.Destino> destinos = new ArrayList<>();
+        VersaoVendaProjection versao = mock(VersaoVendaProjection.class);
+
+        when(vendaRepository.findById(ID_VENDA)).thenReturn(Optional.of(vendaSalva));
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaMapper.toEntity(vendaRequest, vendedor)).thenReturn(vendaEntity);
+        when(vendaRepository.save(vendaSalva)).thenReturn(vendaSalva);
+        when(vendaRepository.buscarVersao(ID_VENDA)).thenAnswer(invocation -> {
+            destinos.add(destinoEmLeitura());
+            return Optional.of(versao);
+        });
+
+        vendaService.getETag(ID_VENDA);
+        vendaService.update(ID_VENDA, vendaRequest, null);
+        vendaService.getETag(ID_VENDA);
+
+        assertEquals(List.of(RoteamentoDataSource.Destino.REPLICA, RoteamentoDataSource.Destino.PRIMARIO), destinos);
+    }
+
+    @Test
+    void calcularMediaPorPeriodoRepetidoUsaResultadoEmCache() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaDiariaService.resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
+                .thenReturn(resumo("300.75", 2L));
+
+        MediaPorPeriodoResponse primeira = vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request);
+        MediaPorPeriodoResponse segunda = vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request);
+
+        assertSame(primeira, segunda);
+        verify(vendaDiariaService, times(1)).resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+    }
+
+    @Test
+    void calcularMediaPorPeriodoAposCreateDoVendedorRecalcula() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaDiariaService.resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
+                .thenReturn(resumo("300.75", 2L), resumo("800.75", 3L));
+        when(vendaMapper.toEntity(vendaRequest, vendedor)).thenReturn(vendaEntity);
+        when(vendaRepository.save(vendaEntity)).thenReturn(vendaSalva);
+
+        vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request);
+        vendaService.create(vendaRequest);
+        MediaPorPeriodoResponse resp = vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request);
+
+        assertEquals(3L, resp.quantidadeVendas());
+        verify(mediaPorPeriodoCache).invalidar(ID_VENDEDOR);
+        verify(vendaDiariaService, times(2)).resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
     }
 
     @Test
@@ -530,14 +1077,14 @@ class VendaServiceTest {
         MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
 
         when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
-        when(vendaRepository.findByVendedorAndDataVendaBetween(vendedor, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
+        when(vendaDiariaService.resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
                 .thenThrow(new RuntimeException("Erro DB"));
 
         assertThrows(RuntimeException.class,
                 () -> vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request));
 
         verify(vendedorRepository).findById(ID_VENDEDOR);
-        verify(vendaRepository).findByVendedorAndDataVendaBetween(vendedor, DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+        verify(vendaDiariaService).resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
     }
 
     @Test
@@ -545,8 +1092,8 @@ class VendaServiceTest {
         MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
 
         when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
-        when(vendaRepository.findByVendedorAndDataVendaBetween(vendedor, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
-                .thenReturn(List.of());
+        when(vendaDiariaService.resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
+                .thenReturn(resumo("0", 0L));
 
         MediaPorPeriodoResponse resp = vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request);
 
@@ -556,7 +1103,7 @@ class VendaServiceTest {
         assertEquals(0L, resp.quantidadeVendas());
 
         verify(vendedorRepository).findById(ID_VENDEDOR);
-        verify(vendaRepository).findByVendedorAndDataVendaBetween(vendedor, DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+        verify(vendaDiariaService).resumir(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
     }
 
     @Test
@@ -564,11 +1111,9 @@ class VendaServiceTest {
         LocalDate dia = LocalDate.of(2025, 11, 20);
         MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(dia, dia);
 
-        Venda venda = new Venda(null, dia, new BigDecimal("50.00"), vendedor);
-
         when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
-        when(vendaRepository.findByVendedorAndDataVendaBetween(vendedor, dia, dia))
-                .thenReturn(List.of(venda));
+        when(vendaDiariaService.resumir(ID_VENDEDOR, dia, dia))
+                .thenReturn(resumo("50.00", 1L));
 
         MediaPorPeriodoResponse resp = vendaService.calcularMediaPorPeriodo(ID_VENDEDOR, request);
 
@@ -578,6 +1123,249 @@ class VendaServiceTest {
         assertEquals(1L, resp.quantidadeVendas());
 
         verify(vendedorRepository).findById(ID_VENDEDOR);
-        verify(vendaRepository).findByVendedorAndDataVendaBetween(vendedor, dia, dia);
+        verify(vendaDiariaService).resumir(ID_VENDEDOR, dia, dia);
+    }
+
+    @Test
+    void getRankingRetornaTotaisEMediaDiariaPorVendedor() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+
+        when(vendaDiariaService.ranquear(DATA_INICIO_VALIDO, DATA_FIM_VALIDO, 2))
+                .thenReturn(List.of(ranking(ID_VENDEDOR, "Ana", "300.75", 2L), ranking(20L, "Bia", "10.00", 1L)));
+
+        List<MediaPorPeriodoResponse> ranking = vendaService.getRanking(request, 2);
+
+        assertEquals(2, ranking.size());
+        assertEquals(ID_VENDEDOR, ranking.get(0).idVendedor());
+        assertEquals("Ana", ranking.get(0).nomeVendedor());
+        assertEquals(0, ranking.get(0).mediaDiaria().compareTo(new BigDecimal("100.25")));
+        assertEquals(3L, ranking.get(0).dias());
+        assertEquals(2L, ranking.get(0).quantidadeVendas());
+        assertEquals(0, ranking.get(1).mediaDiaria().compareTo(new BigDecimal("3.33")));
+
+        verifyNoInteractions(vendedorRepository, vendaRepository);
+    }
+
+    @Test
+    void getRankingQuandoMesmoPeriodoELimiteUsaResultadoEmCache() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+
+        when(vendaDiariaService.ranquear(DATA_INICIO_VALIDO, DATA_FIM_VALIDO, 5))
+                .thenReturn(List.of(ranking(ID_VENDEDOR, "Ana", "300.75", 2L)));
+
+        vendaService.getRanking(request, 5);
+        List<MediaPorPeriodoResponse> ranking = vendaService.getRanking(request, 5);
+
+        assertEquals(1, ranking.size());
+        verify(vendaDiariaService, times(1)).ranquear(DATA_INICIO_VALIDO, DATA_FIM_VALIDO, 5);
+    }
+
+    @Test
+    void getRankingQuandoLimiteMudaConsultaNovamente() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+
+        when(vendaDiariaService.ranquear(eq(DATA_INICIO_VALIDO), eq(DATA_FIM_VALIDO), anyInt())).thenReturn(List.of());
+
+        vendaService.getRanking(request, 5);
+        vendaService.getRanking(request, 10);
+
+        verify(vendaDiariaService).ranquear(DATA_INICIO_VALIDO, DATA_FIM_VALIDO, 5);
+        verify(vendaDiariaService).ranquear(DATA_INICIO_VALIDO, DATA_FIM_VALIDO, 10);
+    }
+
+    @Test
+    void getRankingQuandoPeriodoInvalidoLancaPeriodoInvalidoException() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_FIM_VALIDO, DATA_INICIO_VALIDO);
+
+        assertThrows(PeriodoInvalidoException.class, () -> vendaService.getRanking(request, 10));
+
+        verifyNoInteractions(vendaDiariaService);
+    }
+
+    @Test
+    void getRankingQuandoLimiteInvalidoLancaIllegalArgumentException() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+
+        assertThrows(IllegalArgumentException.class, () -> vendaService.getRanking(request, 0));
+
+        verifyNoInteractions(vendaDiariaService);
+    }
+
+    @Test
+    void getSerieSemanalAgrupaPorSemanaIsoEPreencheSemanasSemVendas() {
+        LocalDate inicio = LocalDate.of(2025, 12, 31);
+        LocalDate fim = LocalDate.of(2026, 1, 20);
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(inicio, fim);
+
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaDiariaService.listarDias(ID_VENDEDOR, inicio, fim)).thenReturn(List.of(
+                diaVendido(LocalDate.of(2025, 12, 31), "100.00", 1L),
+                diaVendido(LocalDate.of(2026, 1, 4), "50.00", 2L),
+                diaVendido(LocalDate.of(2026, 1, 19), "70.00", 1L)
+        ));
+
+        SerieVendasResponse serie = vendaService.getSerie(ID_VENDEDOR, request, Granularidade.SEMANA);
+
+        assertEquals(4, serie.pontos().size());
+
+        PontoSerieVendasResponse primeira = serie.pontos().get(0);
+        assertEquals("2026-W01", primeira.rotulo());
+        assertEquals(inicio, primeira.dataInicio());
+        assertEquals(LocalDate.of(2026, 1, 4), primeira.dataFim());
+        assertEquals(5L, primeira.dias());
+        assertEquals(0, primeira.totalVendido().compareTo(new BigDecimal("150.00")));
+        assertEquals(0, primeira.mediaDiaria().compareTo(new BigDecimal("30.00")));
+        assertEquals(3L, primeira.quantidadeVendas());
+
+        PontoSerieVendasResponse semVendas = serie.pontos().get(1);
+        assertEquals("2026-W02", semVendas.rotulo());
+        assertEquals(0, semVendas.totalVendido().compareTo(BigDecimal.ZERO));
+        assertEquals(0L, semVendas.quantidadeVendas());
+
+        PontoSerieVendasResponse ultima = serie.pontos().get(3);
+        assertEquals(LocalDate.of(2026, 1, 19), ultima.dataInicio());
+        assertEquals(fim, ultima.dataFim());
+        assertEquals(2L, ultima.dias());
+        assertEquals(0, ultima.totalVendido().compareTo(new BigDecimal("70.00")));
+
+        verify(vendaDiariaService, times(1)).listarDias(ID_VENDEDOR, inicio, fim);
+    }
+
+    @Test
+    void getSerieMensalCortaPrimeiroEUltimoMesNoPeriodo() {
+        LocalDate inicio = LocalDate.of(2025, 1, 15);
+        LocalDate fim = LocalDate.of(2025, 3, 10);
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(inicio, fim);
+
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaDiariaService.listarDias(ID_VENDEDOR, inicio, fim)).thenReturn(List.of(
+                diaVendido(LocalDate.of(2025, 2, 28), "280.00", 4L)
+        ));
+
+        SerieVendasResponse serie = vendaService.getSerie(ID_VENDEDOR, request, Granularidade.MES);
+
+        assertEquals(List.of("2025-01", "2025-02", "2025-03"),
+                serie.pontos().stream().map(PontoSerieVendasResponse::rotulo).toList());
+        assertEquals(17L, serie.pontos().get(0).dias());
+        assertEquals(28L, serie.pontos().get(1).dias());
+        assertEquals(0, serie.pontos().get(1).mediaDiaria().compareTo(new BigDecimal("10.00")));
+        assertEquals(10L, serie.pontos().get(2).dias());
+    }
+
+    @Test
+    void getSerieDiariaRetornaUmPontoPorDia() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_INICIO_VALIDO, DATA_FIM_VALIDO);
+
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+        when(vendaDiariaService.listarDias(ID_VENDEDOR, DATA_INICIO_VALIDO, DATA_FIM_VALIDO))
+                .thenReturn(List.of(diaVendido(DATA_FIM_VALIDO, "10.00", 1L)));
+
+        SerieVendasResponse serie = vendaService.getSerie(ID_VENDEDOR, request, Granularidade.DIA);
+
+        assertEquals(3, serie.pontos().size());
+        assertEquals(0L, serie.pontos().get(0).quantidadeVendas());
+        assertEquals(0L, serie.pontos().get(1).quantidadeVendas());
+        assertEquals(1L, serie.pontos().get(2).quantidadeVendas());
+        assertEquals(DATA_FIM_VALIDO, serie.pontos().get(2).dataInicio());
+    }
+
+    @Test
+    void getSerieQuandoPeriodoInvalidoLancaPeriodoInvalidoException() {
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(DATA_FIM_VALIDO, DATA_INICIO_VALIDO);
+
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+
+        assertThrows(PeriodoInvalidoException.class,
+                () -> vendaService.getSerie(ID_VENDEDOR, request, Granularidade.DIA));
+
+        verifyNoInteractions(vendaDiariaService);
+    }
+
+    @Test
+    void getSerieQuandoPontosAcimaDoLimiteLancaIllegalArgumentException() {
+        LocalDate inicio = LocalDate.of(2020, 1, 1);
+        MediaPorPeriodoRequest request = new MediaPorPeriodoRequest(inicio, inicio.plusDays(VendaService.LIMITE_PONTOS_SERIE));
+
+        when(vendedorRepository.findById(ID_VENDEDOR)).thenReturn(Optional.of(vendedor));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> vendaService.getSerie(ID_VENDEDOR, request, Granularidade.DIA));
+        assertDoesNotThrow(() -> vendaService.getSerie(ID_VENDEDOR, request, Granularidade.SEMANA));
+    }
+
+    private VersaoVendaProjection versaoVenda(Long versaoVenda, Long versaoVendedor) {
+        return new VersaoVendaProjection() {
+            @Override
+            public Long getVersaoVenda() {
+                return versaoVenda;
+            }
+
+            @Override
+            public Long getVersaoVendedor() {
+                return versaoVendedor;
+            }
+        };
+    }
+
+    private VendaDiariaProjection diaVendido(LocalDate dataVenda, String total, Long quantidade) {
+        return new VendaDiariaProjection() {
+            @Override
+            public Long getIdVendedor() {
+                return ID_VENDEDOR;
+            }
+
+            @Override
+            public LocalDate getDataVenda() {
+                return dataVenda;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(total);
+            }
+
+            @Override
+            public Long getQuantidade() {
+                return quantidade;
+            }
+        };
+    }
+
+    private RankingVendedorProjection ranking(Long idVendedor, String nome, String totalVendido, Long quantidadeVendas) {
+        return new RankingVendedorProjection() {
+            @Override
+            public Long getIdVendedor() {
+                return idVendedor;
+            }
+
+            @Override
+            public String getNomeVendedor() {
+                return nome;
+            }
+
+            @Override
+            public BigDecimal getTotalVendido() {
+                return new BigDecimal(totalVendido);
+            }
+
+            @Override
+            public Long getQuantidadeVendas() {
+                return quantidadeVendas;
+            }
+        };
+    }
+
+    private ResumoVendasProjection resumo(String totalVendido, Long quantidadeVendas) {
+        return new ResumoVendasProjection() {
+            @Override
+            public BigDecimal getTotalVendido() {
+                return new BigDecimal(totalVendido);
+            }
+
+            @Override
+            public Long getQuantidadeVendas() {
+                return quantidadeVendas;
+            }
+        };
     }
-}
+}
\ No newline at end of file
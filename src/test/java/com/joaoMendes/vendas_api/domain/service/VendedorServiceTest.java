@@ -1,9 +1,15 @@
 package com.joaoMendes.vendas_api.domain.service;
 
+import com.joaoMendes.vendas_api.domain.cache.EscritasRecentesCache;
+import com.joaoMendes.vendas_api.domain.cache.MediaPorPeriodoCache;
+import com.joaoMendes.vendas_api.domain.cache.VendedorCache;
 import com.joaoMendes.vendas_api.domain.entities.Vendedor;
 import com.joaoMendes.vendas_api.domain.exception.VendedorNotFoundException;
+import com.joaoMendes.vendas_api.domain.exception.VersaoConflitanteException;
 import com.joaoMendes.vendas_api.domain.repository.VendedorRepository;
 import com.joaoMendes.vendas_api.dto.request.VendedorRequest;
+import com.joaoMendes.vendas_api.dto.response.CacheEstatisticasResponse;
+import com.joaoMendes.vendas_api.dto.response.PaginaResponse;
 import com.joaoMendes.vendas_api.dto.response.VendedorResponse;
 import com.joaoMendes.vendas_api.mapper.VendedorMapper;
 import com.joaoMendes.vendas_api.utils.StringUtils;
@@ -12,9 +18,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -29,14 +41,26 @@ class VendedorServiceTest {
     @Mock
     private VendedorRepository vendedorRepository;
 
+    @Mock
+    private VersaoVendasService versaoVendasService;
+
     @Mock
     private VendedorMapper vendedorMapper;
 
+    @Spy
+    private VendedorCache vendedorCache = new VendedorCache(100, Duration.ofMinutes(1));
+
+    @Spy
+    private EscritasRecentesCache escritasRecentesCache = new EscritasRecentesCache(Duration.ofMinutes(1));
+
+    @Spy
+    private MediaPorPeriodoCache mediaPorPeriodoCache = new MediaPorPeriodoCache(100, Duration.ofMinutes(1));
+
     @InjectMocks
     private VendedorService vendedorService;
 
     private final String vendedorNome = "vendedorNome";
-    private final String nomeNormalizado = StringUtils.normalizeString(StringUtils.cleanStringForSave(vendedorNome));
+    private final String nomeNormalizado = StringUtils.cleanAndNormalize(vendedorNome);
     private VendedorRequest requestValido;
     private Vendedor vendedorEntity;
     private Vendedor vendedorSalvo;
@@ -52,7 +76,6 @@ class VendedorServiceTest {
 
     @Test
     void createQuandoRequestValidoRetornaVendedorResponse() {
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado)).thenReturn(Optional.empty());
         when(vendedorMapper.toEntity(requestValido)).thenReturn(vendedorEntity);
         when(vendedorRepository.save(vendedorEntity)).thenReturn(vendedorSalvo);
         when(vendedorMapper.toResponse(vendedorSalvo)).thenReturn(vendedorResponse);
@@ -63,27 +86,27 @@ class VendedorServiceTest {
         assertEquals(1L, result.id());
         assertEquals(vendedorNome, result.nome());
 
-        verify(vendedorRepository).findByNomeIgnoreCase(nomeNormalizado);
         verify(vendedorMapper).toEntity(any());
         verify(vendedorRepository).save(any());
         verify(vendedorMapper).toResponse(any());
     }
 
     @Test
-    void createQuandoNomeJaExisteLancaIllegalArgumentException() {
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado))
-                .thenReturn(Optional.of(vendedorSalvo));
+    void createQuandoNomeJaExisteLancaDataIntegrityViolationExceptionSemConsultaPrevia() {
+        when(vendedorMapper.toEntity(requestValido)).thenReturn(vendedorEntity);
+        when(vendedorRepository.save(vendedorEntity))
+                .thenThrow(new DataIntegrityViolationException("uk_vendedor_nome_normalizado"));
 
-        assertThrows(IllegalArgumentException.class,
+        assertThrows(DataIntegrityViolationException.class,
                 () -> vendedorService.create(requestValido));
 
-        verify(vendedorMapper, never()).toEntity(any());
-        verify(vendedorRepository, never()).save(any());
+        verify(vendedorRepository).save(vendedorEntity);
+        verify(vendedorMapper, never()).toResponse(any());
+        verifyNoMoreInteractions(vendedorRepository);
     }
 
     @Test
     void createQuandoSaveFalhaLancaDataIntegrityViolationException() {
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado)).thenReturn(Optional.empty());
         when(vendedorMapper.toEntity(any())).thenReturn(vendedorEntity);
         when(vendedorRepository.save(any()))
                 .thenThrow(new DataIntegrityViolationException("Erro"));
@@ -91,14 +114,12 @@ class VendedorServiceTest {
         assertThrows(DataIntegrityViolationException.class,
                 () -> vendedorService.create(requestValido));
 
-        verify(vendedorRepository).findByNomeIgnoreCase(nomeNormalizado);
         verify(vendedorMapper).toEntity(any());
         verify(vendedorMapper, never()).toResponse(any());
     }
 
     @Test
     void createQuandoMapperToEntityFalhaLancaRuntimeException() {
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado)).thenReturn(Optional.empty());
         when(vendedorMapper.toEntity(any())).thenThrow(new RuntimeException("Erro mapper"));
 
         assertThrows(RuntimeException.class,
@@ -110,7 +131,6 @@ class VendedorServiceTest {
 
     @Test
     void createQuandoMapperToResponseFalhaLancaRuntimeException() {
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado)).thenReturn(Optional.empty());
         when(vendedorMapper.toEntity(any())).thenReturn(vendedorEntity);
         when(vendedorRepository.save(any())).thenReturn(vendedorSalvo);
         when(vendedorMapper.toResponse(any()))
@@ -119,43 +139,39 @@ class VendedorServiceTest {
         assertThrows(RuntimeException.class,
                 () -> vendedorService.create(requestValido));
 
-        verify(vendedorRepository).findByNomeIgnoreCase(nomeNormalizado);
         verify(vendedorRepository).save(vendedorEntity);
         verify(vendedorMapper).toResponse(vendedorSalvo);
         verifyNoMoreInteractions(vendedorRepository, vendedorMapper);
     }
 
     @Test
-    void deleteQuandoIdExisteDeletaComSucesso() {
-        when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorSalvo));
+    void deleteQuandoIdExisteExcluiSemLerOVendedor() {
+        when(vendedorRepository.excluirPorId(1L)).thenReturn(1);
 
         assertDoesNotThrow(() -> vendedorService.delete(1L));
 
-        verify(vendedorRepository).findById(1L);
-        verify(vendedorRepository).delete(vendedorSalvo);
+        verify(vendedorRepository).excluirPorId(1L);
+        verify(vendedorRepository, never()).findById(any());
     }
 
     @Test
     void deleteQuandoIdNaoExisteLancaVendedorNotFoundException() {
-        when(vendedorRepository.findById(1L)).thenReturn(Optional.empty());
+        when(vendedorRepository.excluirPorId(1L)).thenReturn(0);
 
         assertThrows(VendedorNotFoundException.class,
                 () -> vendedorService.delete(1L));
 
-        verify(vendedorRepository, never()).delete(any());
+        verify(vendedorCache, never()).invalidar(any());
     }
 
     @Test
     void deleteQuandoDeleteFalhaPropagaExcecao() {
-        when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorSalvo));
-        doThrow(new DataIntegrityViolationException("Erro"))
-                .when(vendedorRepository).delete(any());
+        when(vendedorRepository.excluirPorId(1L)).thenThrow(new DataIntegrityViolationException("Erro"));
 
         assertThrows(DataIntegrityViolationException.class,
                 () -> vendedorService.delete(1L));
 
-        verify(vendedorRepository).findById(1L);
-        verify(vendedorRepository).delete(vendedorSalvo);
+        verify(vendedorRepository).excluirPorId(1L);
     }
 
     @Test
@@ -195,6 +211,25 @@ class VendedorServiceTest {
         verify(vendedorMapper, never()).toResponse(any());
     }
 
+    @Test
+    void getETagUsaVersaoDoVendedorEmCache() {
+        vendedorSalvo.setVersao(3L);
+        when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorSalvo));
+
+        assertEquals("3", vendedorService.getETag(1L));
+        assertEquals("3", vendedorService.getETag(1L));
+
+        verify(vendedorRepository, times(1)).findById(1L);
+        verifyNoInteractions(vendedorMapper);
+    }
+
+    @Test
+    void getETagQuandoIdNaoExisteLancaVendedorNotFoundException() {
+        when(vendedorRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(VendedorNotFoundException.class, () -> vendedorService.getETag(1L));
+    }
+
     @Test
     void getAllQuandoExistemVendedoresRetornaListaDeResponses() {
         List<Vendedor> lista = List.of(vendedorSalvo);
@@ -238,21 +273,33 @@ class VendedorServiceTest {
         Vendedor atualizado = new Vendedor(null, vendedorNome);
 
         when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorExistente));
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado)).thenReturn(Optional.empty());
         when(vendedorMapper.toEntity(requestValido)).thenReturn(atualizado);
         when(vendedorRepository.save(vendedorExistente)).thenReturn(vendedorSalvo);
         when(vendedorMapper.toResponse(vendedorSalvo)).thenReturn(vendedorResponse);
 
-        VendedorResponse result = vendedorService.update(1L, requestValido);
+        VendedorResponse result = vendedorService.update(1L, requestValido, null);
 
         assertEquals(1L, result.id());
         assertEquals(vendedorNome, result.nome());
 
         verify(vendedorRepository).findById(1L);
-        verify(vendedorRepository).findByNomeIgnoreCase(nomeNormalizado);
         verify(vendedorMapper).toEntity(requestValido);
         verify(vendedorRepository).save(vendedorExistente);
         verify(vendedorMapper).toResponse(vendedorSalvo);
+        verify(versaoVendasService).registrarEscrita();
+    }
+
+    @Test
+    void updateQuandoIfMatchDesatualizadoLancaVersaoConflitanteException() {
+        Vendedor vendedorExistente = new Vendedor(1L, vendedorNome);
+        vendedorExistente.setVersao(5L);
+        when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorExistente));
+
+        assertThrows(VersaoConflitanteException.class,
+                () -> vendedorService.update(1L, requestValido, "\"4\""));
+
+        verify(vendedorRepository, never()).save(any());
+        verify(vendedorCache, never()).invalidar(any());
     }
 
     @Test
@@ -261,11 +308,10 @@ class VendedorServiceTest {
 
         assertThrows(
                 VendedorNotFoundException.class,
-                () -> vendedorService.update(1L, requestValido)
+                () -> vendedorService.update(1L, requestValido, null)
         );
 
         verify(vendedorRepository).findById(1L);
-        verify(vendedorRepository, never()).findByNomeIgnoreCase(any());
         verify(vendedorRepository, never()).save(any());
         verify(vendedorMapper, never()).toEntity(any());
         verify(vendedorMapper, never()).toResponse(any());
@@ -273,33 +319,30 @@ class VendedorServiceTest {
 
 
     @Test
-    void updateQuandoNomeJaExisteEmOutroVendedorLancaIllegalArgumentException() {
+    void updateQuandoNomeJaExisteEmOutroVendedorPropagaDataIntegrityViolationException() {
         Vendedor existente = new Vendedor(1L, vendedorNome);
-        Vendedor outro = new Vendedor(2L, vendedorNome);
 
         when(vendedorRepository.findById(1L)).thenReturn(Optional.of(existente));
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado)).thenReturn(Optional.of(outro));
+        when(vendedorMapper.toEntity(requestValido)).thenReturn(new Vendedor(null, vendedorNome));
+        when(vendedorRepository.save(existente))
+                .thenThrow(new DataIntegrityViolationException("uk_vendedor_nome_normalizado"));
 
-        assertThrows(IllegalArgumentException.class,
-                () -> vendedorService.update(1L, requestValido));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> vendedorService.update(1L, requestValido, null));
 
         verify(vendedorRepository).findById(1L);
-        verify(vendedorRepository).findByNomeIgnoreCase(nomeNormalizado);
-        verify(vendedorMapper, never()).toEntity(any());
-        verify(vendedorRepository, never()).save(any());
+        verify(vendedorMapper, never()).toResponse(any());
+        verify(vendedorCache, never()).invalidar(any());
     }
 
-
     @Test
     void updateQuandoMapperToEntityFalhaLancaRuntimeException() {
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado)).thenReturn(Optional.empty());
         when(vendedorRepository.findById(any())).thenReturn(Optional.of(vendedorSalvo));
         when(vendedorMapper.toEntity(any())).thenThrow(new RuntimeException("Erro"));
 
         assertThrows(RuntimeException.class,
-                () -> vendedorService.update(1L, requestValido));
+                () -> vendedorService.update(1L, requestValido, null));
 
-        verify(vendedorRepository).findByNomeIgnoreCase(nomeNormalizado);
         verify(vendedorRepository, never()).save(any());
         verify(vendedorMapper, never()).toResponse(any());
     }
@@ -309,7 +352,6 @@ class VendedorServiceTest {
         Vendedor vendedorMock = mock(Vendedor.class);
         Vendedor novo = new Vendedor(null, vendedorNome);
 
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado)).thenReturn(Optional.empty());
         when(vendedorRepository.findById(any())).thenReturn(Optional.of(vendedorMock));
         when(vendedorMapper.toEntity(any())).thenReturn(novo);
 
@@ -317,7 +359,7 @@ class VendedorServiceTest {
                 .when(vendedorMock).updateFrom(novo);
 
         assertThrows(RuntimeException.class,
-                () -> vendedorService.update(1L, requestValido));
+                () -> vendedorService.update(1L, requestValido, null));
 
         verify(vendedorRepository, never()).save(any());
     }
@@ -327,19 +369,16 @@ class VendedorServiceTest {
         Vendedor existente = new Vendedor(1L, vendedorNome);
 
         when(vendedorRepository.findById(1L)).thenReturn(Optional.of(existente));
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado))
-                .thenReturn(Optional.of(existente));
         when(vendedorMapper.toEntity(requestValido)).thenReturn(new Vendedor(null, vendedorNome));
         when(vendedorRepository.save(existente)).thenReturn(vendedorSalvo);
         when(vendedorMapper.toResponse(vendedorSalvo)).thenReturn(vendedorResponse);
 
-        VendedorResponse result = vendedorService.update(1L, requestValido);
+        VendedorResponse result = vendedorService.update(1L, requestValido, null);
 
         assertEquals(1L, result.id());
         assertEquals(vendedorNome, result.nome());
 
         verify(vendedorRepository).findById(1L);
-        verify(vendedorRepository).findByNomeIgnoreCase(nomeNormalizado);
         verify(vendedorMapper).toEntity(requestValido);
         verify(vendedorRepository).save(existente);
         verify(vendedorMapper).toResponse(vendedorSalvo);
@@ -351,19 +390,178 @@ class VendedorServiceTest {
         Vendedor vendedorExistente = new Vendedor(1L, vendedorNome);
         Vendedor novo = new Vendedor(null, vendedorNome);
 
-        when(vendedorRepository.findByNomeIgnoreCase(nomeNormalizado)).thenReturn(Optional.empty());
         when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorExistente));
         when(vendedorMapper.toEntity(any())).thenReturn(novo);
         when(vendedorRepository.save(any()))
                 .thenThrow(new DataIntegrityViolationException("Erro"));
 
         assertThrows(DataIntegrityViolationException.class,
-                () -> vendedorService.update(1L, requestValido));
+                () -> vendedorService.update(1L, requestValido, null));
 
         verify(vendedorRepository).findById(1L);
-        verify(vendedorRepository).findByNomeIgnoreCase(nomeNormalizado);
         verify(vendedorMapper).toEntity(requestValido);
         verify(vendedorRepository).save(any());
         verify(vendedorMapper, never()).toResponse(any());
     }
+
+    @Test
+    void getByIdQuandoChamadoDuasVezesConsultaRepositorioUmaVez() {
+        when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorSalvo));
+        when(vendedorMapper.toResponse(vendedorSalvo)).thenReturn(vendedorResponse);
+
+        vendedorService.getById(1L);
+        vendedorService.getById(1L);
+
+        verify(vendedorRepository, times(1)).findById(1L);
+        verify(vendedorMapper, times(2)).toResponse(vendedorSalvo);
+    }
+
+    @Test
+    void getByIdQuandoIdNaoExisteNaoGuardaAusenciaNoCache() {
+        when(vendedorRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(VendedorNotFoundException.class, () -> vendedorService.getById(1L));
+        assertThrows(VendedorNotFoundException.class, () -> vendedorService.getById(1L));
+
+        verify(vendedorRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void updateQuandoSucessoInvalidaCacheDoVendedor() {
+        Vendedor vendedorExistente = new Vendedor(1L, vendedorNome);
+        Vendedor atualizado = new Vendedor(null, vendedorNome);
+
+        when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorExistente));
+        when(vendedorMapper.toResponse(any())).thenReturn(vendedorResponse);
+        vendedorService.getById(1L);
+
+        when(vendedorMapper.toEntity(requestValido)).thenReturn(atualizado);
+        when(vendedorRepository.save(vendedorExistente)).thenReturn(vendedorSalvo);
+        vendedorService.update(1L, requestValido, null);
+
+        vendedorService.getById(1L);
+
+        verify(vendedorRepository, times(3)).findById(1L);
+        verify(vendedorCache).invalidar(1L);
+        verify(escritasRecentesCache).registrar(1L);
+    }
+
+    @Test
+    void deleteQuandoSucessoInvalidaCacheDoVendedor() {
+        when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorSalvo));
+        when(vendedorMapper.toResponse(any())).thenReturn(vendedorResponse);
+        when(vendedorRepository.excluirPorId(1L)).thenReturn(1);
+        vendedorService.getById(1L);
+
+        vendedorService.delete(1L);
+
+        when(vendedorRepository.findById(1L)).thenReturn(Optional.empty());
+        assertThrows(VendedorNotFoundException.class, () -> vendedorService.getById(1L));
+
+        verify(vendedorCache).invalidar(1L);
+        verify(escritasRecentesCache).registrar(1L);
+    }
+
+    @Test
+    void deleteQuandoDeleteFalhaNaoInvalidaCache() {
+        when(vendedorRepository.excluirPorId(1L)).thenThrow(new DataIntegrityViolationException("Erro"));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> vendedorService.delete(1L));
+
+        verify(vendedorCache, never()).invalidar(any());
+    }
+
+    @Test
+    void getEstatisticasCacheRetornaHitsEMisses() {
+        when(vendedorRepository.findById(1L)).thenReturn(Optional.of(vendedorSalvo));
+        when(vendedorMapper.toResponse(any())).thenReturn(vendedorResponse);
+
+        vendedorService.getById(1L);
+        vendedorService.getById(1L);
+
+        CacheEstatisticasResponse porId = vendedorService.getEstatisticasCache().get(0);
+
+        assertEquals("vendedorPorId", porId.cache());
+        assertEquals(1L, porId.tamanho());
+        assertEquals(1L, porId.hits());
+        assertEquals(1L, porId.misses());
+    }
+
+    @Test
+    void getPaginaSemPrefixoListaPaginaOrdenadaPorNomeNormalizado() {
+        PageRequest esperado = PageRequest.of(1, 2, Sort.by("nomeNormalizado").and(Sort.by("id")));
+        List<Vendedor> conteudo = List.of(vendedorSalvo);
+
+        when(vendedorRepository.findAll(esperado)).thenReturn(new PageImpl<>(conteudo, esperado, 3));
+        when(vendedorMapper.toResponseList(conteudo)).thenReturn(List.of(vendedorResponse));
+
+        PaginaResponse<VendedorResponse> result = vendedorService.getPagina(null, 1, 2, "nome", "asc");
+
+        assertEquals(List.of(vendedorResponse), result.conteudo());
+        assertEquals(1, result.pagina());
+        assertEquals(2, result.tamanho());
+        assertEquals(3L, result.totalElementos());
+        assertEquals(2, result.totalPaginas());
+
+        verify(vendedorRepository, never()).findByNomeNormalizadoStartingWith(any(), any());
+    }
+
+    @Test
+    void getPaginaComPrefixoBuscaPeloPrefixoNormalizado() {
+        PageRequest esperado = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+
+        when(vendedorRepository.findByNomeNormalizadoStartingWith("jo", esperado))
+                .thenReturn(new PageImpl<>(List.of(), esperado, 0));
+        when(vendedorMapper.toResponseList(List.of())).thenReturn(List.of());
+
+        PaginaResponse<VendedorResponse> result = vendedorService.getPagina(" J-o ", 0, 10, "id", "DESC");
+
+        assertTrue(result.conteudo().isEmpty());
+        assertEquals(0L, result.totalElementos());
+
+        verify(vendedorRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getPaginaComPrefixoSemLetrasListaSemFiltro() {
+        when(vendedorRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+
+        vendedorService.getPagina("123", 0, 10, "nome", "asc");
+
+        verify(vendedorRepository).findAll(any(Pageable.class));
+        verify(vendedorRepository, never()).findByNomeNormalizadoStartingWith(any(), any());
+    }
+
+    @Test
+    void getPaginaQuandoTamanhoInvalidoLancaIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> vendedorService.getPagina(null, 0, VendedorService.TAMANHO_MAXIMO_PAGINA + 1, "nome", "asc"));
+        assertThrows(IllegalArgumentException.class,
+                () -> vendedorService.getPagina(null, -1, 10, "nome", "asc"));
+
+        verifyNoInteractions(vendedorRepository);
+    }
+
+    @Test
+    void getPaginaQuandoOrdenacaoForaDaListaLancaIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> vendedorService.getPagina(null, 0, 10, "nome_normalizado; drop table", "asc"));
+        assertThrows(IllegalArgumentException.class,
+                () -> vendedorService.getPagina(null, 0, 10, "nome", "lado"));
+
+        verifyNoInteractions(vendedorRepository);
+    }
+
+    @Test
+    void normalizarNomesPendentesPreencheNomeNormalizado() {
+        Vendedor antigo = new Vendedor(5L, "  Maria ");
+        antigo.setNomeNormalizado(null);
+
+        when(vendedorRepository.findByNomeNormalizadoIsNull()).thenReturn(List.of(antigo));
+
+        vendedorService.normalizarNomesPendentes();
+
+        assertEquals("maria", antigo.getNomeNormalizado());
+    }
 }
@@ -0,0 +1,93 @@
+package com.joaoMendes.vendas_api.domain.service;
+
+import com.joaoMendes.vendas_api.dto.request.VendaRequest;
+import com.joaoMendes.vendas_api.dto.request.VendedorRequest;
+import com.joaoMendes.vendas_api.dto.response.VendaResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:versaoVendas;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false"
+})
+class VersaoVendasServiceTest {
+
+    private static final LocalDate DIA = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private VersaoVendasService versaoVendasService;
+
+    @Autowired
+    private VendaService vendaService;
+
+    @Autowired
+    private VendedorService vendedorService;
+
+    @Autowired
+    private VendaDiariaService vendaDiariaService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static long contador(String versao) {
+        return Long.parseLong(versao.substring(versao.indexOf('-') + 1));
+    }
+
+    @Test
+    void cadaTransacaoDeEscritaIncrementaAVersaoUmaVezAposOCommit() {
+        Long idVendedor = vendedorService.create(new VendedorRequest("Versionado")).id();
+        long inicial = contador(versaoVendasService.getVersao());
+
+        VendaResponse venda = vendaService.create(new VendaRequest(DIA, new BigDecimal("10.00"), idVendedor));
+        assertEquals(inicial + 1, contador(versaoVendasService.getVersao()));
+
+        vendaService.createEmLote(List.of(
+                new VendaRequest(DIA, new BigDecimal("1.00"), idVendedor),
+                new VendaRequest(DIA.plusDays(1), new BigDecimal("2.00"), idVendedor),
+                new VendaRequest(DIA.plusDays(2), new BigDecimal("3.00"), idVendedor)));
+        assertEquals(inicial + 2, contador(versaoVendasService.getVersao()));
+
+        vendedorService.update(idVendedor, new VendedorRequest("Versionado Renomeado"), null);
+        assertEquals(inicial + 3, contador(versaoVendasService.getVersao()));
+
+        vendaService.delete(venda.id());
+        assertEquals(inicial + 4, contador(versaoVendasService.getVersao()));
+    }
+
+    @Test
+    void transacaoDesfeitaNaoIncrementaAVersao() {
+        Long idVendedor = vendedorService.create(new VendedorRequest("Desfeito")).id();
+        String inicial = versaoVendasService.getVersao();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            vendaDiariaService.acumular(idVendedor, DIA, new BigDecimal("5.00"), 1);
+            assertEquals(inicial, versaoVendasService.getVersao());
+            status.setRollbackOnly();
+        });
+
+        assertEquals(inicial, versaoVendasService.getVersao());
+    }
+
+    @Test
+    void dentroDoAtrasoDaReplicaAVersaoMudaDeNovoQuandoAJanelaTermina() throws InterruptedException {
+        VersaoVendasService comReplica = new VersaoVendasService(Duration.ofMillis(200));
+        comReplica.registrarEscrita();
+
+        String duranteAtraso = comReplica.getVersao();
+        assertTrue(duranteAtraso.endsWith("-r"));
+
+        Thread.sleep(300);
+        String depoisDoAtraso = comReplica.getVersao();
+        assertNotEquals(duranteAtraso, depoisDoAtraso);
+        assertEquals(1L, contador(depoisDoAtraso));
+    }
+}
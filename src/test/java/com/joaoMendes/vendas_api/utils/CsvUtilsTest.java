@@ -0,0 +1,59 @@
+package com.joaoMendes.vendas_api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvUtilsTest {
+
+    @Test
+    void separarCamposDivideNasVirgulas() {
+        assertEquals(List.of("01/11/2025", "10.50", "1"), CsvUtils.separarCampos("01/11/2025,10.50,1"));
+    }
+
+    @Test
+    void separarCamposMantemCamposVazios() {
+        assertEquals(List.of("", "10.50", ""), CsvUtils.separarCampos(",10.50,"));
+    }
+
+    @Test
+    void separarCamposRespeitaAspasEAspasDuplicadas() {
+        assertEquals(List.of("2", "Silva, \"Maria\""), CsvUtils.separarCampos("2,\"Silva, \"\"Maria\"\"\""));
+    }
+
+    @Test
+    void separarCamposIgnoraRetornoDeCarro() {
+        assertEquals(List.of("a", "b"), CsvUtils.separarCampos("a,b\r"));
+    }
+
+    @Test
+    void separarCamposMantemQuebraDeLinhaDentroDeAspas() {
+        assertEquals(List.of("1", "Rua A\nSala 2"), CsvUtils.separarCampos("1,\"Rua A\nSala 2\""));
+    }
+
+    @Test
+    void escreverCampoSoColocaEntreAspasQuandoPrecisa() throws Exception {
+        StringWriter writer = new StringWriter();
+
+        CsvUtils.escreverCampo(writer, "Joao");
+        writer.write('|');
+        CsvUtils.escreverCampo(writer, "Silva, \"Maria\"");
+        writer.write('|');
+        CsvUtils.escreverCampo(writer, "linha\nquebrada");
+        writer.write('|');
+        CsvUtils.escreverCampo(writer, null);
+
+        assertEquals("Joao|\"Silva, \"\"Maria\"\"\"|\"linha\nquebrada\"|", writer.toString());
+    }
+
+    @Test
+    void alternaAspasIndicaCampoQueContinuaNaProximaLinha() {
+        assertTrue(CsvUtils.alternaAspas("1,\"Rua A"));
+        assertTrue(CsvUtils.alternaAspas("Sala 2\",3"));
+        assertFalse(CsvUtils.alternaAspas("1,\"Silva, \"\"Maria\"\"\",3"));
+        assertFalse(CsvUtils.alternaAspas("1,2,3"));
+    }
+}
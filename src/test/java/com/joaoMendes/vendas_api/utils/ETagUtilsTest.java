@@ -0,0 +1,37 @@
+package com.joaoMendes.vendas_api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagUtilsTest {
+
+    @Test
+    void correspondeQuandoIfMatchAusenteOuCuringa() {
+        assertTrue(ETagUtils.corresponde(null, "2-1"));
+        assertTrue(ETagUtils.corresponde(" ", "2-1"));
+        assertTrue(ETagUtils.corresponde("*", "2-1"));
+    }
+
+    @Test
+    void correspondeQuandoAlgumaETagForteForIgual() {
+        assertTrue(ETagUtils.corresponde("\"2-1\"", "2-1"));
+        assertTrue(ETagUtils.corresponde("\"1-1\", \"2-1\"", "2-1"));
+        assertFalse(ETagUtils.corresponde("\"1-1\"", "2-1"));
+    }
+
+    @Test
+    void naoCorrespondeComETagFraca() {
+        assertFalse(ETagUtils.corresponde("W/\"2-1\"", "2-1"));
+    }
+
+    @Test
+    void versaoVendaJuntaVersoesDaVendaEDoVendedor() {
+        assertEquals("2-1", ETagUtils.versaoVenda(2L, 1L));
+    }
+
+    @Test
+    void fracaFormataETagComPrefixoW() {
+        assertEquals("W/\"3-120-4-1\"", ETagUtils.fraca("3-120-4-1"));
+    }
+}
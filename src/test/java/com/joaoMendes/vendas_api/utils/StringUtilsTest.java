@@ -0,0 +1,92 @@
+package com.joaoMendes.vendas_api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringUtilsTest {
+
+    private static final Pattern NAO_LETRA = Pattern.compile("[^\\p{L}]");
+
+    private static String cleanPorRegex(String s) {
+        return NAO_LETRA.matcher(s).replaceAll("");
+    }
+
+    private static String cleanENormalizePorRegex(String s) {
+        return cleanPorRegex(s).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void assertEquivalente(String entrada) {
+        assertEquals(cleanPorRegex(entrada), StringUtils.cleanStringForSave(entrada), () -> "cleanStringForSave: " + codePoints(entrada));
+        assertEquals(cleanENormalizePorRegex(entrada), StringUtils.cleanAndNormalize(entrada), () -> "cleanAndNormalize: " + codePoints(entrada));
+        assertEquals(StringUtils.cleanAndNormalize(entrada), StringUtils.cleanAndNormalize(StringUtils.cleanStringForSave(entrada)),
+                () -> "cleanAndNormalize sobre nome já limpo: " + codePoints(entrada));
+    }
+
+    private static String codePoints(String s) {
+        StringBuilder sb = new StringBuilder();
+        s.codePoints().forEach(cp -> sb.append(String.format("U+%04X ", cp)));
+        return sb.toString();
+    }
+
+    @Test
+    void cleanStringForSaveQuandoSoLetrasRetornaMesmaInstancia() {
+        String nome = "JoãoÆøßΩЖ中文";
+
+        assertSame(nome, StringUtils.cleanStringForSave(nome));
+    }
+
+    @Test
+    void cleanAndNormalizeQuandoSoLetrasMinusculasRetornaMesmaInstancia() {
+        String nome = "joãoæøßωж中文";
+
+        assertSame(nome, StringUtils.cleanAndNormalize(nome));
+    }
+
+    @Test
+    void cleanStringForSaveRemoveTudoQueNaoELetra() {
+        assertEquals("JosédaSilva", StringUtils.cleanStringForSave(" José  da-Silva 2!"));
+        assertEquals("", StringUtils.cleanStringForSave("123 -_!?"));
+        assertEquals("", StringUtils.cleanStringForSave(""));
+    }
+
+    @Test
+    void cleanAndNormalizeTrataCasingCondicional() {
+        assertEquivalente("İstanbul");
+        assertEquivalente("ΟΔΥΣΣΕΥΣ");
+        assertEquivalente("ΣΑ Σ");
+    }
+
+    @Test
+    void equivalenteAoRegexParaCadaCodePoint() {
+        for (int codePoint = 0; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+            String s = new String(Character.toChars(codePoint));
+            assertEquivalente(s);
+            assertEquivalente("Ab" + s + "Σ1c");
+        }
+    }
+
+    @Test
+    void equivalenteAoRegexEmCorpusUnicodeAleatorio() {
+        Random random = new Random(42);
+        int[] blocos = {0x0000, 0x00C0, 0x0130, 0x0370, 0x0400, 0x0590, 0x0600, 0x0900, 0x1E00, 0x2000, 0x3040, 0x4E00, 0xD800, 0xFF00, 0x1D400, 0x1F600};
+
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int tamanho = random.nextInt(24);
+            for (int i = 0; i < tamanho; i++) {
+                int codePoint = blocos[random.nextInt(blocos.length)] + random.nextInt(0x100);
+                if (codePoint >= 0xD800 && codePoint <= 0xDFFF) {
+                    sb.append((char) codePoint);
+                } else {
+                    sb.appendCodePoint(codePoint);
+                }
+            }
+            assertEquivalente(sb.toString());
+        }
+    }
+}